@@ -0,0 +1,105 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara colunas criadas a partir do nome de um campo de {@link Produto}
+ * (por meio de {@link ExportadorListaProduto#newColuna(String)}) com colunas
+ * criadas a partir de referências de métodos como {@code Produto::getId}.
+ *
+ * @author Lidiane
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColunaCampoBenchmark {
+
+    private static final int LINHAS = 1000;
+
+    @Param({"metodo", "campo"})
+    private String origem;
+
+    private List<Produto> produtos;
+
+    private List<Coluna> colunas;
+
+    private StringBuilder buffer;
+
+    @Setup
+    public void setup() {
+        produtos = DadosBenchmark.gerarProdutos(LINHAS);
+        buffer = new StringBuilder(1 << 16);
+
+        final ExportadorListaProduto exportador = ExportadorListaProduto.newInstance("html");
+        colunas = new ArrayList<>();
+        if ("campo".equals(origem)) {
+            colunas.add(exportador.newColuna("id"));
+            colunas.add(exportador.newColuna("descricao"));
+            colunas.add(exportador.newColuna("marca"));
+            colunas.add(exportador.newColuna("modelo"));
+            colunas.add(exportador.newColuna("estoque"));
+        } else {
+            colunas.add(exportador.newColuna(Produto::getId, "id"));
+            colunas.add(exportador.newColuna(Produto::getDescricao, "descricao"));
+            colunas.add(exportador.newColuna(Produto::getMarca, "marca"));
+            colunas.add(exportador.newColuna(Produto::getModelo, "modelo"));
+            colunas.add(exportador.newColuna(Produto::getEstoque, "estoque"));
+        }
+    }
+
+    /**
+     * Gera as colunas de todos os produtos no buffer.
+     *
+     * @return quantidade de caracteres gerados
+     */
+    @Benchmark
+    public int gerarColunas() {
+        buffer.setLength(0);
+        for (Produto produto : produtos) {
+            for (Coluna coluna : colunas) {
+                coluna.exportarDado(produto, buffer);
+            }
+        }
+        return buffer.length();
+    }
+
+}
@@ -0,0 +1,104 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gera os dados usados pelos benchmarks dos exportadores.
+ *
+ * @author Lidiane
+ */
+final class DadosBenchmark {
+
+    private static final String[] MARCAS = {"Semp Toshiba", "Sansung", "LG", "Apple", "Motorola"};
+
+    private static final String[] MODELOS = {"LED", "Note 10", "OLED 55", "iPhone 15", "Moto G"};
+
+    private DadosBenchmark() {
+    }
+
+    /**
+     * Gera uma lista de produtos com descrições, marcas e modelos variados.
+     *
+     * @param quantidade quantidade de produtos a serem gerados
+     * @return a lista de produtos gerada
+     */
+    static List<Produto> gerarProdutos(int quantidade) {
+        final List<Produto> produtos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            produtos.add(new Produto("Produto " + i, MARCAS[i % MARCAS.length], MODELOS[i % MODELOS.length], i % 1000));
+        }
+        return produtos;
+    }
+
+    /**
+     * Adiciona colunas extras ao exportador, formando uma tabela larga com 20
+     * colunas no total.
+     *
+     * @param exportador exportador onde as colunas serão adicionadas
+     */
+    static void adicionarColunasExtras(ExportadorListaProduto exportador) {
+        for (int i = 0; i < 3; i++) {
+            exportador.addColuna(exportador.newColuna(Produto::getId, "Código " + i));
+            exportador.addColuna(exportador.newColuna(Produto::getDescricao, "Descrição " + i));
+            exportador.addColuna(exportador.newColuna(Produto::getMarca, "Marca " + i));
+            exportador.addColuna(exportador.newColuna(Produto::getModelo, "Modelo " + i));
+            exportador.addColuna(exportador.newColuna(Produto::getEstoque, "Estoque " + i));
+        }
+    }
+
+    /**
+     * Destino de exportação que descarta tudo o que recebe, para medir a
+     * geração das tabelas sem o custo de armazená-las.
+     */
+    static final class DestinoDescartavel implements Appendable {
+
+        private long caracteres;
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            caracteres += csq.length();
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            caracteres += end - start;
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            caracteres++;
+            return this;
+        }
+
+        long getCaracteres() {
+            return caracteres;
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara o escape de caracteres especiais feito por {@link ColunaHtml}, em
+ * uma única passagem e diretamente no buffer da linha, com o escape por
+ * expressões regulares, aplicando uma substituição por caractere especial a
+ * cada valor de texto.
+ *
+ * @author Lidiane
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EscapeHtmlBenchmark {
+
+    private static final int LINHAS = 1000;
+
+    private static final Pattern[] PADROES = {
+        Pattern.compile("&"), Pattern.compile("<"), Pattern.compile(">"), Pattern.compile("\""), Pattern.compile("'")
+    };
+
+    private static final String[] ENTIDADES = {"&amp;", "&lt;", "&gt;", "&quot;", "&#39;"};
+
+    /**
+     * Percentual de produtos cuja descrição possui caracteres especiais.
+     */
+    @Param({"0", "10", "100"})
+    private int percentualEspeciais;
+
+    private List<Produto> produtos;
+
+    private AbstractExportadorListaProduto exportador;
+
+    private StringBuilder buffer;
+
+    @Setup
+    public void setup() {
+        produtos = new ArrayList<>(LINHAS);
+        for (Produto produto : DadosBenchmark.gerarProdutos(LINHAS)) {
+            if (produto.getId() % 100 < percentualEspeciais) {
+                produto.setDescricao("TV <b>\"4K\"</b> & Som's " + produto.getId());
+            }
+            produtos.add(produto);
+        }
+        exportador = (AbstractExportadorListaProduto) ExportadorListaProduto.newInstance("html");
+        buffer = new StringBuilder(1 << 17);
+    }
+
+    /**
+     * Gera as linhas com o escape em uma única passagem feito pelas colunas.
+     *
+     * @return quantidade de caracteres gerados
+     */
+    @Benchmark
+    public int passagemUnica() {
+        buffer.setLength(0);
+        for (Produto produto : produtos) {
+            buffer.append(exportador.abrirLinha());
+            for (Coluna coluna : exportador.getColunas()) {
+                coluna.exportarDado(produto, buffer);
+            }
+            buffer.append(exportador.fecharLinha()).append('\n');
+        }
+        return buffer.length();
+    }
+
+    /**
+     * Gera as mesmas linhas escapando cada valor de texto com expressões
+     * regulares.
+     *
+     * @return quantidade de caracteres gerados
+     */
+    @Benchmark
+    public int expressoesRegulares() {
+        buffer.setLength(0);
+        for (Produto produto : produtos) {
+            buffer.append(exportador.abrirLinha());
+            buffer.append("<td>").append(produto.getId()).append("</td>");
+            buffer.append("<td>").append(escaparRegex(produto.getDescricao())).append("</td>");
+            buffer.append("<td>").append(escaparRegex(produto.getMarca())).append("</td>");
+            buffer.append("<td>").append(escaparRegex(produto.getModelo())).append("</td>");
+            buffer.append("<td>").append(produto.getEstoque()).append("</td>");
+            buffer.append(exportador.fecharLinha()).append('\n');
+        }
+        return buffer.length();
+    }
+
+    private static String escaparRegex(String texto) {
+        String resultado = texto;
+        for (int i = 0; i < PADROES.length; i++) {
+            resultado = PADROES[i].matcher(resultado).replaceAll(Matcher.quoteReplacement(ENTIDADES[i]));
+        }
+        return resultado;
+    }
+
+}
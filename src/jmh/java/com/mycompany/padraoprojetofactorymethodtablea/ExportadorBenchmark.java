@@ -0,0 +1,108 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mede a vazão (throughput) dos exportadores HTML e Markdown para listas de
+ * diferentes tamanhos, com as 5 colunas padrão ou com uma tabela larga de 20
+ * colunas.
+ *
+ * <p>
+ * Para obter a alocação de memória por linha, execute com o profiler de GC
+ * ({@code java -jar target/benchmarks.jar ExportadorBenchmark -prof gc}) e
+ * divida o valor de {@code gc.alloc.rate.norm} pelo parâmetro
+ * {@code linhas}.</p>
+ *
+ * @author Lidiane
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExportadorBenchmark {
+
+    @Param({"html", "md", "csv", "tsv"})
+    private String formato;
+
+    @Param({"10", "10000", "1000000"})
+    private int linhas;
+
+    @Param({"padrao", "larga"})
+    private String colunas;
+
+    private List<Produto> produtos;
+
+    private ExportadorListaProduto exportador;
+
+    @Setup
+    public void setup() {
+        produtos = DadosBenchmark.gerarProdutos(linhas);
+        exportador = ExportadorListaProduto.newInstance(formato);
+        if ("larga".equals(colunas)) {
+            DadosBenchmark.adicionarColunasExtras(exportador);
+        }
+    }
+
+    /**
+     * Exporta a lista para uma String, como em {@link Main}.
+     *
+     * @return a tabela gerada
+     */
+    @Benchmark
+    public String exportar() {
+        return exportador.exportar(produtos);
+    }
+
+    /**
+     * Exporta a lista linha a linha para um destino que descarta os dados,
+     * medindo apenas a geração da tabela.
+     *
+     * @return a quantidade de caracteres gerados
+     * @throws IOException nunca, pois o destino não realiza E/S
+     */
+    @Benchmark
+    public long exportarStreaming() throws IOException {
+        final DadosBenchmark.DestinoDescartavel destino = new DadosBenchmark.DestinoDescartavel();
+        exportador.exportar(produtos, destino);
+        return destino.getCaracteres();
+    }
+
+}
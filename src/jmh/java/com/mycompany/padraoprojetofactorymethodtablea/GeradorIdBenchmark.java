@@ -0,0 +1,70 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara a vazão das estratégias de geração de ids de {@link Produto} com 64
+ * threads criando ids ao mesmo tempo.
+ *
+ * @author Lidiane
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class GeradorIdBenchmark {
+
+    @Param({"sequencial", "blocos"})
+    private String estrategia;
+
+    private GeradorId gerador;
+
+    @Setup
+    public void setup() {
+        gerador = "blocos".equals(estrategia) ? new GeradorIdBlocos(1024) : new GeradorIdSequencial();
+    }
+
+    @Benchmark
+    public int proximoId() {
+        return gerador.proximoId();
+    }
+
+}
@@ -0,0 +1,119 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara a taxa de alocação da geração de linhas concatenando uma String por
+ * coluna e por linha (como era feito originalmente) com a geração direta em um
+ * buffer compartilhado, por meio de {@link Coluna#exportarDado(Produto, StringBuilder)}.
+ *
+ * <p>
+ * Execute com {@code -prof gc} para comparar {@code gc.alloc.rate.norm}
+ * entre os dois métodos.</p>
+ *
+ * @author Lidiane
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderizacaoLinhaBenchmark {
+
+    private static final int LINHAS = 1000;
+
+    @Param({"html", "md"})
+    private String formato;
+
+    private List<Produto> produtos;
+
+    private AbstractExportadorListaProduto exportador;
+
+    private StringBuilder buffer;
+
+    @Setup
+    public void setup() {
+        produtos = DadosBenchmark.gerarProdutos(LINHAS);
+        exportador = (AbstractExportadorListaProduto) ExportadorListaProduto.newInstance(formato);
+        buffer = new StringBuilder(1 << 16);
+    }
+
+    /**
+     * Gera as linhas criando uma String para cada coluna e um StringBuilder
+     * temporário para cada linha.
+     *
+     * @return quantidade de caracteres gerados
+     */
+    @Benchmark
+    public int concatenacaoPorColuna() {
+        buffer.setLength(0);
+        for (Produto produto : produtos) {
+            final StringBuilder linha = new StringBuilder();
+            linha.append(exportador.abrirLinha());
+            for (Coluna coluna : exportador.getColunas()) {
+                linha.append(coluna.exportarDado(produto));
+            }
+            linha.append(exportador.fecharLinha());
+            linha.append("\n");
+            buffer.append(linha.toString());
+        }
+        return buffer.length();
+    }
+
+    /**
+     * Gera as linhas escrevendo cada coluna diretamente no buffer
+     * compartilhado.
+     *
+     * @return quantidade de caracteres gerados
+     */
+    @Benchmark
+    public int bufferCompartilhado() {
+        buffer.setLength(0);
+        for (Produto produto : produtos) {
+            buffer.append(exportador.abrirLinha());
+            for (Coluna coluna : exportador.getColunas()) {
+                coluna.exportarDado(produto, buffer);
+            }
+            buffer.append(exportador.fecharLinha());
+            buffer.append('\n');
+        }
+        return buffer.length();
+    }
+
+}
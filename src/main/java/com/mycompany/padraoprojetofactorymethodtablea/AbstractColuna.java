@@ -25,6 +25,8 @@ package com.mycompany.padraoprojetofactorymethodtablea;
 
 import java.lang.reflect.Field;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  *
@@ -36,21 +38,6 @@ import java.util.function.Function;
  */
 public abstract class AbstractColuna implements Coluna {
 
-    /**
-     * Representa um determinado campo (atributo) de um objeto. A classe
-     * {@link Field} faz parte da API de Reflection fornecida pela linguagem
-     * Java. Reflection é um recurso para permitir acesso dinâmico a informações
-     * de classes e objetos. Por meio da classe Field, podemos obter o nome de
-     * um campo, o valor que um determinado objeto armazena para tal campo, o
-     * tipo do campo, etc.
-     *
-     * <p>
-     * Tal atributo só é usado se o construtor {@link #AbstractColuna(Field)}
-     * for chamado. Caso contrário, o valor a ser exibido para a coluna é obtido
-     * de {@link #funcaoValorColuna}.</p>
-     */
-    private Field campo;
-
     /**
      * Título a ser exibido na coluna. Por padrão, este é o nome do campo.
      */
@@ -59,12 +46,32 @@ public abstract class AbstractColuna implements Coluna {
     /**
      * Função ({@link Function}) que recebe um objeto da lista a ser exportada e
      * retorna uma String que representa o conteúdo a ser exibido para a coluna.
-     * Tal atributo só é usado se o construtor
-     * {@link #AbstractColuna(Function, String)} for chamado. Caso contrário, o
-     * valor a ser exibido para a coluna é obtido de {@link #campo}.
+     * Se a coluna foi criada pelo construtor {@link #AbstractColuna(Field)},
+     * tal função é gerada por {@link AcessoresCampo} para acessar o campo
+     * informado, sem usar Reflection a cada valor obtido.
      */
     private Function<Produto, Object> obtemValorColuna;
 
+    /**
+     * Função ({@link ToIntFunction}) que recebe um objeto da lista a ser
+     * exportada e retorna um valor int a ser exibido para a coluna. Tal
+     * atributo só é usado se o construtor
+     * {@link #AbstractColuna(ToIntFunction, String)} for chamado ou se a coluna
+     * for criada a partir de um campo int. Desta forma, o valor é escrito
+     * diretamente na tabela, sem ser convertido para {@link Integer} ou
+     * String.
+     */
+    private ToIntFunction<Produto> obtemValorInt;
+
+    /**
+     * Função ({@link ToLongFunction}) que recebe um objeto da lista a ser
+     * exportada e retorna um valor long a ser exibido para a coluna. Tal
+     * atributo só é usado se o construtor
+     * {@link #AbstractColuna(ToLongFunction, String)} for chamado ou se a
+     * coluna for criada a partir de um campo long.
+     */
+    private ToLongFunction<Produto> obtemValorLong;
+
     /**
      * Instancia uma coluna para uma tabela, cujo valor a ser exibido será
      * obtido a partir de um campo (atributo) específico de um objeto.
@@ -75,12 +82,13 @@ public abstract class AbstractColuna implements Coluna {
      */
     protected AbstractColuna(Field campo) {
         this(campo.getName());
-        this.campo = campo;
-
-        /*Como estamos acessando um campo (que possivelmente é privado) via Reflection e não
-         * por meio de um getter, precisamos chamar o método setAcessible para quebrar o bloqueio
-         * ao campo privado e permitir o acesso.*/
-        this.campo.setAccessible(true);
+        if (campo.getType() == int.class) {
+            this.obtemValorInt = AcessoresCampo.compilarInt(campo);
+        } else if (campo.getType() == long.class) {
+            this.obtemValorLong = AcessoresCampo.compilarLong(campo);
+        } else {
+            this.obtemValorColuna = AcessoresCampo.compilar(campo);
+        }
     }
 
     /**
@@ -103,44 +111,50 @@ public abstract class AbstractColuna implements Coluna {
     }
 
     /**
-     * Construtor usado internamente para inicializar alguns atributos e evitar
-     * duplicação de código entre os outros construtores
+     * Instancia uma coluna para uma tabela, cujo valor int a ser exibido será
+     * obtido a partir de uma função que recebe um objeto da lista a ser
+     * exportada.
      *
+     * @param obtemValorColuna uma função ({@link ToIntFunction}) que recebe um
+     * objeto da lista a ser exportada e retorna o valor int a ser exibido na
+     * coluna
      * @param titulo título a ser exibido na coluna
      *
-     * @see #AbstractColuna(Field)
      * @see #AbstractColuna(Function, String)
      */
-    private AbstractColuna(String titulo) {
-        setTitulo(titulo);
+    public AbstractColuna(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        this(titulo);
+        this.obtemValorInt = obtemValorColuna;
     }
 
     /**
-     * Obtém o valor de um determinado campo (atributo) de um objeto da lista de
-     * objetos a serem exportados na tabela.
+     * Instancia uma coluna para uma tabela, cujo valor long a ser exibido será
+     * obtido a partir de uma função que recebe um objeto da lista a ser
+     * exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToLongFunction}) que recebe
+     * um objeto da lista a ser exportada e retorna o valor long a ser exibido
+     * na coluna
+     * @param titulo título a ser exibido na coluna
      *
-     * @param objeto objeto de onde o valor de um determinado campo será obtido
-     * para exibição na coluna
-     * @return o valor do campo como String ou vazio se o campo for null
+     * @see #AbstractColuna(Function, String)
      */
-    private String getValor(Produto objeto) {
-        /* Se o valor da coluna foi definido para ser obtido a partir de uma
-         * função passada em um dos construtores, chama tal função. */
-        if (obtemValorColuna != null) {
-            Object retorno = obtemValorColuna.apply(objeto);
-            return retorno.toString();
-        }
+    public AbstractColuna(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        this(titulo);
+        this.obtemValorLong = obtemValorColuna;
+    }
 
-        /* Caso o valor foi definido para ser obtido a partir de um
-         * atributo de um objeto da lista a ser exportada,
-         * obtém o valor de tal atributo representado pela variável "campo".
-         */
-        try {
-            final Object valorCampo = campo.get(objeto);
-            return valorCampo == null ? "" : String.valueOf(valorCampo);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Construtor usado internamente para inicializar alguns atributos e evitar
+     * duplicação de código entre os outros construtores
+     *
+     * @param titulo título a ser exibido na coluna
+     *
+     * @see #AbstractColuna(Field)
+     * @see #AbstractColuna(Function, String)
+     */
+    private AbstractColuna(String titulo) {
+        setTitulo(titulo);
     }
 
     @Override
@@ -155,13 +169,122 @@ public abstract class AbstractColuna implements Coluna {
 
     @Override
     public final String exportarCabecalho() {
-        return abrir() + titulo + fechar();
+        final StringBuilder destino = new StringBuilder();
+        exportarCabecalho(destino);
+        return destino.toString();
+    }
+
+    @Override
+    public final void exportarCabecalho(StringBuilder destino) {
+        destino.append(abrir());
+        anexarTexto(titulo, destino);
+        destino.append(fechar());
     }
 
     @Override
     public final String exportarDado(Produto produto) {
-        Object retorno = obtemValorColuna.apply(produto);
-        return abrir() + retorno.toString() + fechar();
+        final StringBuilder destino = new StringBuilder();
+        exportarDado(produto, destino);
+        return destino.toString();
+    }
+
+    @Override
+    public final void exportarDado(Produto produto, StringBuilder destino) {
+        destino.append(abrir());
+        anexarValor(produto, destino);
+        destino.append(fechar());
+    }
+
+    /**
+     * Adiciona o valor da coluna para um determinado produto ao final de um
+     * buffer, sem criar Strings intermediárias quando o valor já for um texto.
+     * Valores int e long são escritos dígito a dígito diretamente no buffer,
+     * sem boxing.
+     *
+     * @param produto produto de onde o valor da coluna será obtido
+     * @param destino buffer onde o valor será adicionado
+     */
+    private void anexarValor(Produto produto, StringBuilder destino) {
+        if (obtemValorInt != null) {
+            destino.append(obterInt(produto));
+            return;
+        }
+
+        if (obtemValorLong != null) {
+            destino.append(obterLong(produto));
+            return;
+        }
+
+        final CharSequence texto = obterTexto(produto);
+        if (texto != null) {
+            anexarTexto(texto, destino);
+        }
+    }
+
+    /**
+     * @return o tipo dos valores desta coluna, que indica qual dos métodos
+     * {@link #obterInt(Produto)}, {@link #obterLong(Produto)} ou
+     * {@link #obterTexto(Produto)} pode ser usado para obtê-los
+     */
+    TipoValorColuna getTipoValor() {
+        if (obtemValorInt != null) {
+            return TipoValorColuna.INT;
+        }
+
+        return obtemValorLong != null ? TipoValorColuna.LONG : TipoValorColuna.TEXTO;
+    }
+
+    /**
+     * Obtém o valor de uma coluna do tipo {@link TipoValorColuna#INT}, sem
+     * boxing.
+     *
+     * @param produto produto de onde o valor da coluna será obtido
+     * @return o valor da coluna
+     */
+    int obterInt(Produto produto) {
+        return obtemValorInt.applyAsInt(produto);
+    }
+
+    /**
+     * Obtém o valor de uma coluna do tipo {@link TipoValorColuna#LONG}, sem
+     * boxing.
+     *
+     * @param produto produto de onde o valor da coluna será obtido
+     * @return o valor da coluna
+     */
+    long obterLong(Produto produto) {
+        return obtemValorLong.applyAsLong(produto);
+    }
+
+    /**
+     * Obtém o valor de uma coluna do tipo {@link TipoValorColuna#TEXTO}.
+     * Valores que já são textos são retornados sem criar uma nova String.
+     *
+     * @param produto produto de onde o valor da coluna será obtido
+     * @return o valor da coluna ou null se ele não estiver definido
+     */
+    CharSequence obterTexto(Produto produto) {
+        final Object valor = obtemValorColuna.apply(produto);
+        if (valor instanceof CharSequence) {
+            return (CharSequence) valor;
+        }
+
+        return valor == null ? null : valor.toString();
+    }
+
+    /**
+     * Adiciona um texto (o título da coluna ou um valor que não seja int ou
+     * long) ao final de um buffer. Por padrão, o texto é adicionado sem
+     * alterações. Formatos que exigem que alguns caracteres sejam escapados
+     * devem sobrescrever este método, de preferência adicionando o texto
+     * diretamente ao buffer, sem criar uma String intermediária, quando ele
+     * não possuir tais caracteres.
+     *
+     * @param texto texto a ser adicionado
+     * @param destino buffer onde o texto será adicionado
+     */
+    protected void anexarTexto(CharSequence texto, StringBuilder destino) {
+        destino.append(texto);
     }
 
 }
@@ -23,8 +23,13 @@
  */
 package com.mycompany.padraoprojetofactorymethodtablea;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
 /**
  *
@@ -36,15 +41,59 @@ import java.util.List;
  *
  * @author Manoel Campos da Silva Filho
  */
-public abstract class AbstractExportadorListaProduto implements ExportadorListaProduto {
+public abstract class AbstractExportadorListaProduto implements ExportadorListaProduto, Cloneable {
 
     /**
-     * Lista de colunas que foramarão a tabela a ser exportada.
+     * Lista de colunas que foramarão a tabela a ser exportada. A lista é
+     * imutável e substituída por uma nova cópia a cada coluna adicionada
+     * (copy-on-write), de modo que cópias do exportador podem compartilhá-la
+     * com segurança.
      */
-    private List<Coluna> colunas;
+    private volatile List<Coluna> colunas;
 
     /**
-     * @return the colunas
+     * Agregações das colunas, indexadas pela posição da coluna, com null nas
+     * colunas sem agregação. Colunas após o fim do vetor não possuem
+     * agregação. Como as colunas só podem ser adicionadas ao final da lista, a
+     * posição de uma coluna nunca muda, logo a agregação permanece na mesma
+     * coluna mesmo que o seu título seja alterado. Assim como a lista de
+     * colunas, o vetor nunca é alterado, mas substituído por uma nova cópia a
+     * cada agregação adicionada.
+     */
+    private volatile Agregacao[] agregacoes = new Agregacao[0];
+
+    /**
+     * Indica se o exportador é um protótipo compartilhado, que não pode ser
+     * alterado, apenas copiado.
+     *
+     * @see ExportadorListaProduto#prototipo(String)
+     */
+    private boolean prototipo;
+
+    /**
+     * Níveis de agrupamento de uma exportação sem agrupamento.
+     */
+    private static final NivelAgrupamento[] SEM_AGRUPAMENTO = new NivelAgrupamento[0];
+
+    /**
+     * Ouvinte que recebe as medições das exportações, ou null se as
+     * exportações não devem ser medidas.
+     */
+    private volatile OuvinteExportacao ouvinte;
+
+    /**
+     * Trechos fixos da tabela (cabeçalho, abertura e fechamento de linhas)
+     * gerados na última exportação. São descartados quando uma coluna é
+     * adicionada e gerados novamente quando o título de alguma coluna muda.
+     *
+     * @see #getCabecalho()
+     */
+    private volatile CabecalhoTabela cabecalho;
+
+    /**
+     * @return the colunas, em uma lista que não pode ser alterada. As colunas
+     * podem ser compartilhadas com outras cópias do exportador (ver
+     * {@link #copiar()}), logo não devem ter seus títulos alterados.
      */
     protected List<Coluna> getColunas() {
         return colunas;
@@ -55,55 +104,428 @@ public abstract class AbstractExportadorListaProduto implements ExportadorListaP
      *
      */
     public AbstractExportadorListaProduto() {
-        colunas = new ArrayList<>();
-        colunas.add(newColuna(Produto::getId, "Código"));
-        colunas.add(newColuna(Produto::getDescricao, "Descrição"));
-        colunas.add(newColuna(Produto::getMarca, "Marca"));
-        colunas.add(newColuna(Produto::getModelo, "Modelo"));
-        colunas.add(newColuna(Produto::getEstoque, "Estoque"));
+        final List<Coluna> padrao = new ArrayList<>();
+        padrao.add(newColunaInt(Produto::getId, "Código"));
+        padrao.add(newColuna(Produto::getDescricao, "Descrição"));
+        padrao.add(newColuna(Produto::getMarca, "Marca"));
+        padrao.add(newColuna(Produto::getModelo, "Modelo"));
+        padrao.add(newColunaInt(Produto::getEstoque, "Estoque"));
+        colunas = List.copyOf(padrao);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A lista de colunas não é alterada: uma nova lista, contendo as colunas
+     * atuais e a nova coluna, é criada (copy-on-write). Assim, cópias obtidas
+     * por {@link #copiar()} e exportações em andamento não são afetadas.</p>
+     *
+     * @throws UnsupportedOperationException se o exportador for um protótipo
+     * compartilhado
+     */
+    @Override
+    public synchronized void addColuna(Coluna coluna) {
+        if (prototipo) {
+            throw new UnsupportedOperationException("Protótipos não podem ser alterados. Use copiar() para obter um exportador personalizável.");
+        }
+
+        final List<Coluna> novas = new ArrayList<>(colunas.size() + 1);
+        novas.addAll(colunas);
+        novas.add(coluna);
+        colunas = List.copyOf(novas);
+        cabecalho = null;
+    }
+
+    /**
+     * Adiciona uma agregação, como a soma do estoque ou a quantidade de marcas
+     * distintas, à coluna que possui um determinado título. Se alguma coluna
+     * tiver agregação, a tabela passa a ter uma linha de rodapé, após as
+     * linhas dos produtos, com o resultado de cada agregação na sua coluna.
+     * As agregações são calculadas durante a geração das linhas, sem percorrer
+     * os produtos novamente.
+     *
+     * <p>
+     * O título é usado apenas para localizar a coluna no momento desta
+     * chamada: a agregação fica associada à coluna, mesmo que o seu título
+     * seja alterado depois. Em uma exportação paginada, cada página possui o
+     * rodapé com as agregações dos seus próprios produtos.</p>
+     *
+     * @param tituloColuna título da coluna onde o resultado será exibido
+     * @param agregacao agregação a ser calculada
+     * @throws IllegalArgumentException se não houver exatamente uma coluna com
+     * o título informado ou se a coluna já tiver uma agregação
+     * @throws UnsupportedOperationException se o exportador for um protótipo
+     * compartilhado
+     */
+    public synchronized void addAgregacao(String tituloColuna, Agregacao agregacao) {
+        final List<Coluna> colunasAtuais = colunas;
+        int posicao = -1;
+        for (int i = 0; i < colunasAtuais.size(); i++) {
+            if (colunasAtuais.get(i).getTitulo().equals(tituloColuna)) {
+                if (posicao >= 0) {
+                    throw new IllegalArgumentException("Há mais de uma coluna com o título: " + tituloColuna);
+                }
+                posicao = i;
+            }
+        }
+        if (posicao < 0) {
+            throw new IllegalArgumentException("Coluna não encontrada: " + tituloColuna);
+        }
+
+        adicionarAgregacao(posicao, agregacao);
+    }
+
+    /**
+     * Adiciona uma agregação a uma coluna da tabela, da mesma forma que
+     * {@link #addAgregacao(String, Agregacao)}.
+     *
+     * @param coluna coluna onde o resultado será exibido, já adicionada por
+     * meio de {@link #addColuna(Coluna)}
+     * @param agregacao agregação a ser calculada
+     * @throws IllegalArgumentException se a coluna não fizer parte da tabela
+     * exatamente uma vez ou se já tiver uma agregação
+     * @throws UnsupportedOperationException se o exportador for um protótipo
+     * compartilhado
+     */
+    public synchronized void addAgregacao(Coluna coluna, Agregacao agregacao) {
+        final List<Coluna> colunasAtuais = colunas;
+        int posicao = -1;
+        for (int i = 0; i < colunasAtuais.size(); i++) {
+            if (colunasAtuais.get(i) == coluna) {
+                if (posicao >= 0) {
+                    throw new IllegalArgumentException("A coluna foi adicionada mais de uma vez: " + coluna.getTitulo());
+                }
+                posicao = i;
+            }
+        }
+        if (posicao < 0) {
+            throw new IllegalArgumentException("Coluna não encontrada: " + coluna.getTitulo());
+        }
+
+        adicionarAgregacao(posicao, agregacao);
+    }
+
+    private void adicionarAgregacao(int posicao, Agregacao agregacao) {
+        if (prototipo) {
+            throw new UnsupportedOperationException("Protótipos não podem ser alterados. Use copiar() para obter um exportador personalizável.");
+        }
+
+        Objects.requireNonNull(agregacao);
+        if (posicao < agregacoes.length && agregacoes[posicao] != null) {
+            throw new IllegalArgumentException("A coluna já possui uma agregação: " + colunas.get(posicao).getTitulo());
+        }
+
+        final Agregacao[] novas = Arrays.copyOf(agregacoes, Math.max(agregacoes.length, posicao + 1));
+        novas[posicao] = agregacao;
+        agregacoes = novas;
+        cabecalho = null;
+    }
+
+    /**
+     * Define o ouvinte que receberá as medições das exportações deste
+     * exportador, como a quantidade de linhas, os caracteres gerados, a
+     * duração de cada exportação e o tempo de amostras das colunas. Sem
+     * ouvinte (o padrão), nenhuma medição é feita.
+     *
+     * @param ouvinte ouvinte das exportações, ou null para desativar as
+     * medições
+     * @throws UnsupportedOperationException se o exportador for um protótipo
+     * compartilhado
+     * @see MetricasExportacao
+     */
+    public synchronized void setOuvinte(OuvinteExportacao ouvinte) {
+        if (prototipo) {
+            throw new UnsupportedOperationException("Protótipos não podem ser alterados. Use copiar() para obter um exportador personalizável.");
+        }
+        this.ouvinte = ouvinte;
+    }
+
+    /**
+     * @return o ouvinte das exportações, ou null se as exportações não devem
+     * ser medidas
+     */
+    OuvinteExportacao getOuvinte() {
+        return ouvinte;
+    }
 
+    /**
+     * Obtém um exportador como uma subclasse desta classe, exigida pelas
+     * exportações que geram as linhas da tabela por conta própria, como
+     * {@link ExportacaoParalela} e {@link ExportacaoCompactada}.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @return o próprio exportador
+     * @throws IllegalArgumentException se o exportador não for uma subclasse
+     * desta classe
+     */
+    static AbstractExportadorListaProduto exigirSubclasse(ExportadorListaProduto exportador) {
+        if (!(exportador instanceof AbstractExportadorListaProduto)) {
+            throw new IllegalArgumentException("O exportador deve ser uma subclasse de AbstractExportadorListaProduto");
+        }
+        return (AbstractExportadorListaProduto) exportador;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A cópia é feita por {@link Object#clone()}, compartilhando a lista de
+     * colunas e os trechos fixos da tabela já gerados, sem criar novamente as
+     * colunas padrão.</p>
+     */
     @Override
-    public void addColuna(Coluna coluna) {
-        getColunas().add(coluna);
+    public AbstractExportadorListaProduto copiar() {
+        try {
+            final AbstractExportadorListaProduto copia = (AbstractExportadorListaProduto) super.clone();
+            copia.prototipo = false;
+            return copia;
+        } catch (CloneNotSupportedException e) {
+            /* Não ocorre, pois a classe implementa Cloneable. */
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Torna este exportador um protótipo compartilhado, que não pode mais ser
+     * alterado. Os trechos fixos da tabela são gerados neste momento, para que
+     * sejam compartilhados por todas as cópias.
+     *
+     * @return este exportador
+     */
+    AbstractExportadorListaProduto tornarPrototipo() {
+        getCabecalho();
+        prototipo = true;
+        return this;
+    }
+
+    /**
+     * Obtém os trechos fixos da tabela, gerando-os apenas se as colunas
+     * mudaram desde a última exportação.
+     *
+     * @return os trechos fixos da tabela para as colunas atuais
+     */
+    CabecalhoTabela getCabecalho() {
+        final List<Coluna> colunasAtuais = colunas;
+        final Agregacao[] agregacoesAtuais = agregacoes;
+        CabecalhoTabela atual = cabecalho;
+        if (atual == null || !atual.isValido(colunasAtuais, agregacoesAtuais)) {
+            atual = new CabecalhoTabela(this, colunasAtuais, agregacoesAtuais);
+            cabecalho = atual;
+        }
+        return atual;
     }
 
     @Override
     public final String exportar(List<Produto> listaProdutos) {
         final StringBuilder sb = new StringBuilder();
-        sb.append(abrirTabela());
+        try {
+            gerarTabela(listaProdutos.iterator(), sb);
+        } catch (IOException e) {
+            /* Um StringBuilder nunca lança IOException, mas o contrato de
+             * Appendable obriga a tratar a exceção. */
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public final void exportar(Iterable<Produto> produtos, Appendable destino) throws IOException {
+        gerarTabela(produtos.iterator(), destino);
+    }
+
+    /**
+     * Gera a tabela completa, sem agrupamento, enviando ao destino cada linha
+     * assim que ela é gerada.
+     *
+     * @param produtos produtos a serem exportados
+     * @param destino onde a tabela será escrita
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     * @see #gerarTabela(Iterator, NivelAgrupamento[], Appendable)
+     */
+    void gerarTabela(Iterator<Produto> produtos, Appendable destino) throws IOException {
+        gerarTabela(produtos, SEM_AGRUPAMENTO, destino);
+    }
 
-        sb.append(abrirLinha());
-        for (Coluna coluna : colunas) {
-            sb.append(coluna.exportarCabecalho());
+    /**
+     * Gera a tabela completa, enviando ao destino cada linha assim que ela é
+     * gerada. Desta forma, apenas uma linha da tabela fica em memória por vez,
+     * independente da quantidade de produtos. Se o destino já for um
+     * {@link StringBuilder}, as linhas são geradas diretamente nele, evitando
+     * uma cópia intermediária.
+     *
+     * <p>
+     * Duas etapas são opcionais:</p>
+     * <ul>
+     * <li>agrupamento: se houver níveis de agrupamento, apenas a chave atual
+     * de cada nível é guardada. Antes de cada produto, as chaves do produto
+     * são comparadas às atuais, do nível mais externo ao mais interno, e uma
+     * linha de grupo é gerada para o primeiro nível cuja chave mudou e para
+     * todos os níveis seguintes;</li>
+     * <li>medição: se houver ouvinte, a exportação é medida e, a cada
+     * {@link OuvinteExportacao#getIntervaloAmostragemColunas()} linhas, o
+     * tempo de cada coluna é amostrado. Sem ouvinte, nenhuma medição de tempo
+     * é feita.</li>
+     * </ul>
+     *
+     * @param produtos produtos a serem exportados, com os produtos de cada
+     * grupo em posições contíguas
+     * @param niveis níveis de agrupamento, do mais externo ao mais interno,
+     * ou um vetor vazio para não agrupar
+     * @param destino onde a tabela será escrita
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    void gerarTabela(Iterator<Produto> produtos, NivelAgrupamento[] niveis, Appendable destino)
+            throws IOException {
+        final OuvinteExportacao ouvinteAtual = ouvinte;
+        final long inicio = ouvinteAtual == null ? 0 : System.nanoTime();
+        final int intervaloAmostragem = ouvinteAtual == null ? 0 : ouvinteAtual.getIntervaloAmostragemColunas();
+        final CabecalhoTabela cabecalhoTabela = getCabecalho();
+        final TotaisTabela totais = cabecalhoTabela.novosTotais();
+        destino.append(cabecalhoTabela.getCabecalho());
+
+        final StringBuilder linha = destino instanceof StringBuilder ? (StringBuilder) destino : new StringBuilder();
+        final Object[] chavesAtuais = new Object[niveis.length];
+        long caracteres = cabecalhoTabela.getCabecalho().length() + cabecalhoTabela.getFecharTabela().length();
+        long linhas = 0;
+        while (produtos.hasNext()) {
+            final int tamanhoAnterior = linha.length();
+            final Produto produto = produtos.next();
+            if (niveis.length > 0) {
+                gerarLinhasGrupo(cabecalhoTabela, niveis, chavesAtuais, linhas == 0, produto, linha);
+            }
+
+            if (intervaloAmostragem > 0 && linhas % intervaloAmostragem == 0) {
+                gerarColunasLinhaMedindo(cabecalhoTabela, produto, linha, ouvinteAtual);
+            } else {
+                gerarColunasLinha(cabecalhoTabela, produto, linha);
+            }
+            if (totais != null) {
+                totais.acumular(produto);
+            }
+            caracteres += linha.length() - tamanhoAnterior;
+            linhas++;
+            descarregar(linha, destino);
         }
-        sb.append(fecharLinha());
 
-        sb.append("\n");
-        sb.append(fecharLinhaTitulos());
-        gerarLinhasProdutos(sb, listaProdutos);
+        if (totais != null) {
+            final int tamanhoAnterior = linha.length();
+            totais.gerarRodape(linha);
+            caracteres += linha.length() - tamanhoAnterior;
+            descarregar(linha, destino);
+        }
+        destino.append(cabecalhoTabela.getFecharTabela());
+        if (ouvinteAtual != null) {
+            ouvinteAtual.exportacaoConcluida(this, linhas, caracteres, System.nanoTime() - inicio);
+        }
+    }
 
-        sb.append(fecharTabela());
-        return sb.toString();
+    /**
+     * Gera as linhas de grupo que antecedem um produto: uma para o primeiro
+     * nível cuja chave difere da chave atual e uma para cada nível seguinte,
+     * atualizando as chaves atuais.
+     *
+     * @param cabecalhoTabela trechos fixos da tabela
+     * @param niveis níveis de agrupamento, do mais externo ao mais interno
+     * @param chavesAtuais chave do grupo atual de cada nível
+     * @param primeiroProduto indica se o produto é o primeiro da tabela, caso
+     * em que todos os níveis iniciam um grupo
+     * @param produto produto a ser exportado
+     * @param builder buffer onde as linhas serão adicionadas
+     */
+    private void gerarLinhasGrupo(CabecalhoTabela cabecalhoTabela, NivelAgrupamento[] niveis, Object[] chavesAtuais,
+            boolean primeiroProduto, Produto produto, StringBuilder builder) {
+        boolean grupoAlterado = primeiroProduto;
+        for (int i = 0; i < niveis.length; i++) {
+            final Object chave = niveis[i].obterChave(produto);
+            grupoAlterado = grupoAlterado || !Objects.equals(chave, chavesAtuais[i]);
+            if (grupoAlterado) {
+                chavesAtuais[i] = chave;
+                gerarLinhaGrupo(cabecalhoTabela, i, niveis[i], chave, builder);
+            }
+        }
+    }
+
+    /**
+     * Gera uma linha de grupo, com o título do nível e a chave do grupo,
+     * adicionando-a ao final de um buffer. O texto é escapado pela primeira
+     * coluna da tabela, da mesma forma que os valores das colunas.
+     *
+     * @param cabecalhoTabela trechos fixos da tabela
+     * @param indiceNivel nível do grupo, sendo 0 o mais externo
+     * @param nivel nível de agrupamento do grupo
+     * @param chave chave do grupo
+     * @param builder buffer onde a linha será adicionada
+     */
+    private void gerarLinhaGrupo(CabecalhoTabela cabecalhoTabela, int indiceNivel, NivelAgrupamento nivel,
+            Object chave, StringBuilder builder) {
+        final Coluna[] colunasTabela = cabecalhoTabela.getColunas();
+        final String texto = nivel.getTitulo() + ": " + chave;
+        builder.append(abrirLinhaGrupo(indiceNivel, colunasTabela.length));
+        if (colunasTabela.length > 0 && colunasTabela[0] instanceof AbstractColuna) {
+            ((AbstractColuna) colunasTabela[0]).anexarTexto(texto, builder);
+        } else {
+            builder.append(texto);
+        }
+        builder.append(fecharLinhaGrupo(indiceNivel, colunasTabela.length)).append("\n");
     }
 
-    private void gerarLinhasProdutos(StringBuilder builder, List<Produto> listaProdutos) {
-        for (Produto produto : listaProdutos) {
+    /**
+     * Envia o conteúdo gerado até o momento para o destino e limpa o buffer,
+     * para que ele seja reutilizado na próxima linha.
+     *
+     * @param linha buffer com o conteúdo gerado
+     * @param destino onde o conteúdo deve ser escrito
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    private static void descarregar(StringBuilder linha, Appendable destino) throws IOException {
+        if (linha != destino) {
+            destino.append(linha);
+            linha.setLength(0);
+        }
+    }
 
-            builder.append(gerarColunasLinha(produto));
+    /**
+     * Gera uma linha da tabela para um determinado produto, adicionando-a ao
+     * final de um buffer compartilhado. Cada coluna escreve seu conteúdo
+     * diretamente no buffer, de modo que nenhuma String temporária é criada
+     * por coluna ou por linha.
+     *
+     * @param cabecalhoTabela trechos fixos da tabela, obtidos uma única vez
+     * por exportação por meio de {@link #getCabecalho()}
+     * @param produto produto a ser exportado na linha
+     * @param builder buffer onde a linha será adicionada
+     */
+    void gerarColunasLinha(CabecalhoTabela cabecalhoTabela, Produto produto, StringBuilder builder) {
+        builder.append(cabecalhoTabela.getAbrirLinha());
+        final Coluna[] colunasTabela = cabecalhoTabela.getColunas();
+        for (int i = 0; i < colunasTabela.length; i++) {
+            if (i > 0) {
+                builder.append(cabecalhoTabela.getSeparadorColunas());
+            }
+            colunasTabela[i].exportarDado(produto, builder);
         }
+        builder.append(cabecalhoTabela.getFecharLinha());
     }
 
-    private String gerarColunasLinha(Produto produto) {
-        final StringBuilder builder = new StringBuilder();
-        builder.append(abrirLinha());
-        for (Coluna coluna : getColunas()) {
-            builder.append(coluna.exportarDado(produto));
+    /**
+     * Gera uma linha da mesma forma que
+     * {@link #gerarColunasLinha(CabecalhoTabela, Produto, StringBuilder)},
+     * notificando o ouvinte do tempo gasto por cada coluna.
+     */
+    private static void gerarColunasLinhaMedindo(CabecalhoTabela cabecalhoTabela, Produto produto,
+            StringBuilder builder, OuvinteExportacao ouvinteAtual) {
+        builder.append(cabecalhoTabela.getAbrirLinha());
+        final Coluna[] colunasTabela = cabecalhoTabela.getColunas();
+        for (int i = 0; i < colunasTabela.length; i++) {
+            if (i > 0) {
+                builder.append(cabecalhoTabela.getSeparadorColunas());
+            }
+            final long inicio = System.nanoTime();
+            colunasTabela[i].exportarDado(produto, builder);
+            ouvinteAtual.colunaMedida(colunasTabela[i], System.nanoTime() - inicio);
         }
-        builder.append(fecharLinha());
-        builder.append("\n");
-        return builder.toString();
+        builder.append(cabecalhoTabela.getFecharLinha());
     }
 
 }
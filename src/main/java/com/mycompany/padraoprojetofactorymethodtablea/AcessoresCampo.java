@@ -0,0 +1,238 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compila o acesso a um campo (atributo) de {@link Produto} em uma função, para
+ * que colunas criadas a partir de um {@link Field} tenham o mesmo desempenho
+ * de colunas criadas com referências de métodos como {@code Produto::getId}.
+ *
+ * <p>
+ * Se o campo possuir um getter público, é gerada uma implementação de
+ * {@link Function} (ou de {@link ToIntFunction}/{@link ToLongFunction} para
+ * campos int/long) que chama o getter diretamente, por meio de
+ * {@link LambdaMetafactory} (o mesmo mecanismo usado pelo compilador para
+ * referências de métodos). Caso contrário, o campo é lido por um
+ * {@link MethodHandle}, que também evita as verificações de acesso feitas a
+ * cada chamada de {@link Field#get(Object)}.</p>
+ *
+ * @author Lidiane
+ */
+final class AcessoresCampo {
+
+    private AcessoresCampo() {
+    }
+
+    /**
+     * Compila o acesso a um campo de {@link Produto} em uma função que recebe
+     * um produto e retorna o valor do campo. Valores primitivos são
+     * convertidos para o tipo wrapper correspondente.
+     *
+     * @param campo campo (atributo) de {@link Produto} a ser acessado
+     * @return uma função que retorna o valor do campo para um produto
+     * @throws IllegalArgumentException se o campo não for um atributo de
+     * instância de {@link Produto}
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Produto, Object> compilar(Field campo) {
+        final Method getter = validar(campo, null);
+        try {
+            if (getter != null) {
+                return (Function<Produto, Object>) gerarFuncao(getter, Function.class, "apply", Object.class);
+            }
+
+            final MethodHandle leitura = leitura(campo, Object.class);
+            return produto -> {
+                try {
+                    return leitura.invokeExact(produto);
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+            };
+        } catch (Throwable e) {
+            throw erroCompilacao(campo, e);
+        }
+    }
+
+    /**
+     * Compila o acesso a um campo int de {@link Produto} em uma função que
+     * recebe um produto e retorna o valor do campo, sem boxing.
+     *
+     * @param campo campo (atributo) int de {@link Produto} a ser acessado
+     * @return uma função que retorna o valor do campo para um produto
+     * @throws IllegalArgumentException se o campo não for um atributo int de
+     * instância de {@link Produto}
+     */
+    @SuppressWarnings("unchecked")
+    static ToIntFunction<Produto> compilarInt(Field campo) {
+        final Method getter = validar(campo, int.class);
+        try {
+            if (getter != null) {
+                return (ToIntFunction<Produto>) gerarFuncao(getter, ToIntFunction.class, "applyAsInt", int.class);
+            }
+
+            final MethodHandle leitura = leitura(campo, int.class);
+            return produto -> {
+                try {
+                    return (int) leitura.invokeExact(produto);
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+            };
+        } catch (Throwable e) {
+            throw erroCompilacao(campo, e);
+        }
+    }
+
+    /**
+     * Compila o acesso a um campo long de {@link Produto} em uma função que
+     * recebe um produto e retorna o valor do campo, sem boxing.
+     *
+     * @param campo campo (atributo) long de {@link Produto} a ser acessado
+     * @return uma função que retorna o valor do campo para um produto
+     * @throws IllegalArgumentException se o campo não for um atributo long de
+     * instância de {@link Produto}
+     */
+    @SuppressWarnings("unchecked")
+    static ToLongFunction<Produto> compilarLong(Field campo) {
+        final Method getter = validar(campo, long.class);
+        try {
+            if (getter != null) {
+                return (ToLongFunction<Produto>) gerarFuncao(getter, ToLongFunction.class, "applyAsLong", long.class);
+            }
+
+            final MethodHandle leitura = leitura(campo, long.class);
+            return produto -> {
+                try {
+                    return (long) leitura.invokeExact(produto);
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+            };
+        } catch (Throwable e) {
+            throw erroCompilacao(campo, e);
+        }
+    }
+
+    /**
+     * Verifica se o campo pode ser usado como coluna e busca o seu getter.
+     *
+     * @param campo campo a ser validado
+     * @param tipo tipo primitivo que o campo deve ter, ou null para aceitar
+     * qualquer tipo
+     * @return o getter do campo ou null se ele não existir
+     */
+    private static Method validar(Field campo, Class<?> tipo) {
+        if (!campo.getDeclaringClass().isAssignableFrom(Produto.class)) {
+            throw new IllegalArgumentException("O campo " + campo.getName() + " não pertence à classe Produto");
+        }
+
+        if (Modifier.isStatic(campo.getModifiers())) {
+            throw new IllegalArgumentException("O campo " + campo.getName() + " é estático e não pode ser usado como coluna");
+        }
+
+        if (tipo != null && campo.getType() != tipo) {
+            throw new IllegalArgumentException("O campo " + campo.getName() + " não é do tipo " + tipo.getName());
+        }
+
+        return buscarGetter(campo);
+    }
+
+    /**
+     * Busca o getter público de um campo, seguindo a convenção JavaBeans
+     * ({@code getCampo()} ou {@code isCampo()} para campos boolean).
+     *
+     * @param campo campo para o qual deve ser buscado o getter
+     * @return o getter do campo ou null se ele não existir
+     */
+    private static Method buscarGetter(Field campo) {
+        final String nome = campo.getName();
+        final String sufixo = Character.toUpperCase(nome.charAt(0)) + nome.substring(1);
+        final String prefixo = campo.getType() == boolean.class ? "is" : "get";
+        try {
+            final Method getter = Produto.class.getMethod(prefixo + sufixo);
+            return getter.getReturnType() == campo.getType() ? getter : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gera uma implementação de uma interface funcional que chama diretamente
+     * o getter informado.
+     *
+     * @param getter getter a ser chamado pela função
+     * @param interfaceFuncional interface funcional a ser implementada
+     * @param nomeMetodo nome do método abstrato da interface funcional
+     * @param tipoRetorno tipo de retorno do método abstrato da interface
+     * funcional
+     * @return a função gerada
+     * @throws Throwable se a função não puder ser gerada
+     */
+    private static Object gerarFuncao(Method getter, Class<?> interfaceFuncional, String nomeMetodo, Class<?> tipoRetorno) throws Throwable {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle handle = lookup.unreflect(getter);
+        final Class<?> retornoInstanciado = tipoRetorno.isPrimitive() ? tipoRetorno : handle.type().wrap().returnType();
+        final CallSite site = LambdaMetafactory.metafactory(
+                lookup, nomeMetodo, MethodType.methodType(interfaceFuncional),
+                MethodType.methodType(tipoRetorno, Object.class),
+                handle, MethodType.methodType(retornoInstanciado, Produto.class));
+        return site.getTarget().invoke();
+    }
+
+    /**
+     * Cria um {@link MethodHandle} que lê o valor do campo diretamente, usado
+     * quando o campo não possui getter.
+     *
+     * @param campo campo a ser lido
+     * @param tipoRetorno tipo retornado pelo MethodHandle
+     * @return um MethodHandle do tipo {@code (Produto)tipoRetorno}
+     * @throws IllegalAccessException se o campo não puder ser acessado
+     */
+    private static MethodHandle leitura(Field campo, Class<?> tipoRetorno) throws IllegalAccessException {
+        /*Como o campo possivelmente é privado, precisamos chamar o método setAcessible
+         * para quebrar o bloqueio ao campo privado e permitir a criação do MethodHandle.*/
+        campo.setAccessible(true);
+        return MethodHandles.lookup()
+                .unreflectGetter(campo)
+                .asType(MethodType.methodType(tipoRetorno, Produto.class));
+    }
+
+    private static RuntimeException erroCompilacao(Field campo, Throwable causa) {
+        return new RuntimeException("Não foi possível compilar o acesso ao campo " + campo.getName(), causa);
+    }
+
+}
@@ -0,0 +1,57 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+/**
+ * Acumula os valores de uma agregação ({@link Agregacao}) durante uma
+ * exportação, um produto por vez. Cada exportação, ou cada bloco de uma
+ * exportação paralela, usa seus próprios acumuladores, logo eles não precisam
+ * ser seguros para uso por várias threads.
+ *
+ * @author Lidiane
+ */
+public interface Acumulador {
+
+    /**
+     * Inclui um produto na agregação.
+     *
+     * @param produto produto a ser incluído
+     */
+    void acumular(Produto produto);
+
+    /**
+     * Inclui nesta agregação os produtos já acumulados por outro acumulador da
+     * mesma agregação, como na união dos resultados dos blocos de uma
+     * exportação paralela.
+     *
+     * @param outro acumulador criado pela mesma agregação
+     */
+    void combinar(Acumulador outro);
+
+    /**
+     * @return o resultado da agregação para os produtos acumulados
+     */
+    long getResultado();
+
+}
@@ -0,0 +1,117 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Acumuladores das agregações fornecidas por {@link Agregacao}. A contagem e a
+ * soma usam apenas um long, sem boxing por produto.
+ *
+ * @author Lidiane
+ */
+final class Acumuladores {
+
+    private Acumuladores() {
+    }
+
+    static final class Contagem implements Acumulador {
+
+        private long contagem;
+
+        @Override
+        public void acumular(Produto produto) {
+            contagem++;
+        }
+
+        @Override
+        public void combinar(Acumulador outro) {
+            contagem += ((Contagem) outro).contagem;
+        }
+
+        @Override
+        public long getResultado() {
+            return contagem;
+        }
+    }
+
+    static final class Soma implements Acumulador {
+
+        private final ToLongFunction<Produto> valor;
+
+        private long soma;
+
+        Soma(ToLongFunction<Produto> valor) {
+            this.valor = valor;
+        }
+
+        @Override
+        public void acumular(Produto produto) {
+            soma += valor.applyAsLong(produto);
+        }
+
+        @Override
+        public void combinar(Acumulador outro) {
+            soma += ((Soma) outro).soma;
+        }
+
+        @Override
+        public long getResultado() {
+            return soma;
+        }
+    }
+
+    static final class Distintos implements Acumulador {
+
+        private final Function<Produto, ?> valor;
+
+        private final Set<Object> valores = new HashSet<>();
+
+        Distintos(Function<Produto, ?> valor) {
+            this.valor = valor;
+        }
+
+        @Override
+        public void acumular(Produto produto) {
+            final Object atual = valor.apply(produto);
+            if (atual != null) {
+                valores.add(atual);
+            }
+        }
+
+        @Override
+        public void combinar(Acumulador outro) {
+            valores.addAll(((Distintos) outro).valores);
+        }
+
+        @Override
+        public long getResultado() {
+            return valores.size();
+        }
+    }
+
+}
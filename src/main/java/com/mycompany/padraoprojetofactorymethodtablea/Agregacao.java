@@ -0,0 +1,73 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Define um valor calculado a partir de todos os produtos exportados, como um
+ * total ou uma contagem, exibido em uma linha de rodapé da tabela (ver
+ * {@link AbstractExportadorListaProduto#addAgregacao(String, Agregacao)}). O valor é
+ * calculado durante a geração das linhas, sem percorrer os produtos novamente,
+ * por meio de um {@link Acumulador} criado para cada exportação.
+ *
+ * @author Lidiane
+ */
+@FunctionalInterface
+public interface Agregacao {
+
+    /**
+     * @return um novo acumulador, sem nenhum produto acumulado
+     */
+    Acumulador novoAcumulador();
+
+    /**
+     * @return uma agregação que conta os produtos exportados
+     */
+    static Agregacao contagem() {
+        return Acumuladores.Contagem::new;
+    }
+
+    /**
+     * @param valor função que obtém de cada produto o valor a ser somado
+     * @return uma agregação que soma um valor dos produtos exportados
+     */
+    static Agregacao soma(ToLongFunction<Produto> valor) {
+        Objects.requireNonNull(valor);
+        return () -> new Acumuladores.Soma(valor);
+    }
+
+    /**
+     * @param valor função que obtém de cada produto o valor a ser contado
+     * @return uma agregação que conta os valores distintos (desconsiderando
+     * null) entre os produtos exportados
+     */
+    static Agregacao distintos(Function<Produto, ?> valor) {
+        Objects.requireNonNull(valor);
+        return () -> new Acumuladores.Distintos(valor);
+    }
+
+}
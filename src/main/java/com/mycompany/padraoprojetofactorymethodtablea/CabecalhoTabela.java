@@ -0,0 +1,204 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Armazena os trechos fixos de uma tabela já gerados por um exportador: a
+ * abertura da tabela com a linha de títulos, os códigos de abertura e
+ * fechamento de cada linha e o fechamento da tabela. Tais trechos só mudam
+ * quando uma coluna é adicionada ou tem seu título alterado, logo não precisam
+ * ser gerados novamente a cada exportação.
+ *
+ * <p>
+ * Objetos desta classe são imutáveis. Eles guardam as colunas e os títulos
+ * existentes no momento em que foram criados, assim como as agregações das
+ * colunas, para que o exportador possa verificar se continuam válidos por
+ * meio de {@link #isValido(List, Agregacao[])}.</p>
+ *
+ * @author Lidiane
+ */
+final class CabecalhoTabela {
+
+    private final Coluna[] colunas;
+
+    private final String[] titulos;
+
+    /**
+     * Abertura da tabela seguida da linha de títulos das colunas.
+     */
+    private final String cabecalho;
+
+    private final String abrirLinha;
+
+    /**
+     * Código de fechamento de uma linha, incluindo a quebra de linha.
+     */
+    private final String fecharLinha;
+
+    private final String fecharTabela;
+
+    private final String separadorColunas;
+
+    /**
+     * Agregações das colunas, indexadas pela posição da coluna.
+     */
+    private final Agregacao[] agregacoesPorPosicao;
+
+    /**
+     * Agregações das colunas que possuem agregação, na ordem das colunas.
+     */
+    private final Agregacao[] agregacoes;
+
+    /**
+     * Índice da coluna de cada agregação em {@link #agregacoes}, em ordem
+     * crescente.
+     */
+    private final int[] colunasAgregadas;
+
+    /**
+     * Gera os trechos fixos de uma tabela para as colunas atuais de um
+     * exportador.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @param colunas colunas da tabela
+     * @param agregacoesPorPosicao agregações das colunas, indexadas pela
+     * posição da coluna, que não devem ser alteradas
+     */
+    CabecalhoTabela(ExportadorListaProduto exportador, List<Coluna> colunas, Agregacao[] agregacoesPorPosicao) {
+        this.colunas = colunas.toArray(new Coluna[0]);
+        this.titulos = new String[this.colunas.length];
+
+        final StringBuilder builder = new StringBuilder();
+        builder.append(exportador.abrirTabela());
+
+        builder.append(exportador.abrirLinha());
+        for (int i = 0; i < this.colunas.length; i++) {
+            if (i > 0) {
+                builder.append(exportador.separadorColunas());
+            }
+            titulos[i] = this.colunas[i].getTitulo();
+            this.colunas[i].exportarCabecalho(builder);
+        }
+        builder.append(exportador.fecharLinha());
+
+        builder.append("\n");
+        builder.append(exportador.fecharLinhaTitulos());
+
+        this.cabecalho = builder.toString();
+        this.abrirLinha = exportador.abrirLinha();
+        this.fecharLinha = exportador.fecharLinha() + "\n";
+        this.fecharTabela = exportador.fecharTabela();
+        this.separadorColunas = exportador.separadorColunas();
+
+        this.agregacoesPorPosicao = agregacoesPorPosicao;
+        final Agregacao[] agregacoesColunas = new Agregacao[this.colunas.length];
+        final int[] indicesColunas = new int[this.colunas.length];
+        int total = 0;
+        for (int i = 0; i < Math.min(this.colunas.length, agregacoesPorPosicao.length); i++) {
+            final Agregacao agregacao = agregacoesPorPosicao[i];
+            if (agregacao != null) {
+                agregacoesColunas[total] = agregacao;
+                indicesColunas[total++] = i;
+            }
+        }
+        this.agregacoes = Arrays.copyOf(agregacoesColunas, total);
+        this.colunasAgregadas = Arrays.copyOf(indicesColunas, total);
+    }
+
+    /**
+     * Verifica se os trechos armazenados ainda correspondem às colunas
+     * informadas, ou seja, se nenhuma coluna foi incluída, removida ou teve o
+     * título alterado e nenhuma agregação foi incluída desde que este objeto
+     * foi criado.
+     *
+     * @param colunasAtuais colunas atuais do exportador
+     * @param agregacoesAtuais agregações atuais do exportador
+     * @return true se os trechos armazenados ainda podem ser usados, false
+     * caso contrário
+     */
+    boolean isValido(List<Coluna> colunasAtuais, Agregacao[] agregacoesAtuais) {
+        if (colunasAtuais.size() != colunas.length || agregacoesAtuais != agregacoesPorPosicao) {
+            return false;
+        }
+
+        for (int i = 0; i < colunas.length; i++) {
+            final Coluna coluna = colunasAtuais.get(i);
+            if (coluna != colunas[i] || !Objects.equals(coluna.getTitulo(), titulos[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return as colunas da tabela, que não devem ser alteradas
+     */
+    Coluna[] getColunas() {
+        return colunas;
+    }
+
+    String getCabecalho() {
+        return cabecalho;
+    }
+
+    String getAbrirLinha() {
+        return abrirLinha;
+    }
+
+    String getFecharLinha() {
+        return fecharLinha;
+    }
+
+    String getFecharTabela() {
+        return fecharTabela;
+    }
+
+    String getSeparadorColunas() {
+        return separadorColunas;
+    }
+
+    /**
+     * @return os índices das colunas que possuem agregação, que não devem ser
+     * alterados
+     */
+    int[] getColunasAgregadas() {
+        return colunasAgregadas;
+    }
+
+    /**
+     * Cria os acumuladores das agregações para uma exportação.
+     *
+     * @return os totais da exportação ou null se nenhuma coluna tiver
+     * agregação, caso em que a tabela não possui linha de rodapé
+     */
+    TotaisTabela novosTotais() {
+        return agregacoes.length == 0 ? null : new TotaisTabela(this, agregacoes);
+    }
+
+}
@@ -0,0 +1,576 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Catálogo de produtos com índices secundários, que permite exportar apenas
+ * os produtos que atendem a um filtro, em uma determinada ordem, sem copiar
+ * nem ordenar novamente o catálogo completo a cada exportação.
+ *
+ * <p>
+ * São mantidos um índice ordenado pelo estoque, em que uma faixa de estoque é
+ * localizada por busca binária, e um índice de hash pela marca, que fornece
+ * diretamente as posições dos produtos de uma marca. O resultado de uma
+ * consulta ({@link #consultar(FiltroProduto, OrdenacaoProduto)}) é uma visão
+ * da lista original, que guarda apenas as posições dos produtos encontrados.
+ * As ordenações necessárias são feitas sobre valores long que combinam a
+ * chave de ordenação e a posição do produto, por meio do
+ * {@link Arrays#sort(long[])}, sem comparadores nem boxing. O resultado
+ * pode ser exportado por qualquer exportador, como em
+ * {@code exportador.exportar(catalogo.consultar(filtro, ordenacao))}.</p>
+ *
+ * <p>
+ * Os índices são mantidos automaticamente quando o estoque ou a marca de um
+ * produto são alterados. Cada consulta compara as versões dos produtos
+ * ({@link Produto#getVersao()}) às indexadas, o que custa apenas uma
+ * comparação de inteiros por produto. Se houve alterações, apenas os produtos
+ * alterados são lidos novamente e reposicionados nos índices, sem ordenar o
+ * catálogo completo. Se o tamanho da lista mudar, os índices
+ * são gerados novamente por completo. Já a substituição de um produto da
+ * lista por outro não é detectada e exige uma chamada a
+ * {@link #reindexar()}.</p>
+ *
+ * <p>
+ * Consultas feitas ao mesmo tempo que uma atualização dos índices usam os
+ * índices anteriores ou os novos, nunca uma mistura dos dois.</p>
+ *
+ * @author Lidiane
+ */
+public class CatalogoIndexado {
+
+    /**
+     * Fração máxima do catálogo (1/N) que pode ter sido alterada para que os
+     * índices sejam atualizados apenas nas posições alteradas. Acima dela, é
+     * mais barato gerar os índices novamente por completo.
+     */
+    private static final int FRACAO_ATUALIZACAO_PARCIAL = 4;
+
+    private final List<Produto> produtos;
+
+    private volatile Indices indices;
+
+    /**
+     * Instancia um catálogo, gerando os índices dos produtos.
+     *
+     * @param produtos lista de produtos do catálogo, que deve permitir acesso
+     * aleatório eficiente (como {@link java.util.ArrayList})
+     */
+    public CatalogoIndexado(List<Produto> produtos) {
+        this.produtos = Objects.requireNonNull(produtos);
+        reindexar();
+    }
+
+    /**
+     * Gera novamente os índices a partir do conteúdo atual da lista de
+     * produtos. Só é necessário se produtos da lista forem substituídos por
+     * outros sem que o tamanho da lista mude.
+     */
+    public final synchronized void reindexar() {
+        indices = Indices.gerar(produtos);
+    }
+
+    /**
+     * Verifica se a lista de produtos foi alterada desde a geração dos
+     * índices, comparando o seu tamanho e as versões dos produtos
+     * ({@link Produto#getVersao()}). Os índices são atualizados
+     * automaticamente a cada consulta, logo este método serve apenas para
+     * saber se a próxima consulta precisará atualizá-los.
+     *
+     * @return true se os índices precisarem ser atualizados
+     */
+    public boolean isDesatualizado() {
+        final Indices atuais = indices;
+        return produtos.size() != atuais.estoques.length
+                || atuais.contarAlteradas(produtos, null) > 0;
+    }
+
+    public int tamanho() {
+        return indicesAtualizados().estoques.length;
+    }
+
+    /**
+     * Obtém os índices atuais, atualizando-os antes se algum produto foi
+     * alterado desde a sua geração.
+     *
+     * @return os índices atualizados
+     */
+    private Indices indicesAtualizados() {
+        final Indices atuais = indices;
+        if (atuais.estoques.length == produtos.size() && atuais.contarAlteradas(produtos, null) == 0) {
+            return atuais;
+        }
+        return atualizar();
+    }
+
+    /**
+     * Atualiza os índices com as alterações feitas nos produtos desde a sua
+     * geração. Uma alteração feita durante a atualização é considerada agora
+     * ou na próxima consulta, pois a versão de cada produto é lida antes dos
+     * seus valores.
+     *
+     * @return os índices atualizados
+     */
+    private synchronized Indices atualizar() {
+        final Indices atuais = indices;
+        if (atuais.estoques.length != produtos.size()) {
+            indices = Indices.gerar(produtos);
+            return indices;
+        }
+
+        final int[] alteradas = new int[atuais.estoques.length / FRACAO_ATUALIZACAO_PARCIAL];
+        final int totalAlteradas = atuais.contarAlteradas(produtos, alteradas);
+        if (totalAlteradas == 0) {
+            /* Outra thread já atualizou os índices. */
+            return atuais;
+        }
+        if (totalAlteradas > alteradas.length) {
+            indices = Indices.gerar(produtos);
+        } else {
+            indices = atuais.atualizar(produtos, alteradas, totalAlteradas);
+        }
+        return indices;
+    }
+
+    /**
+     * Obtém os produtos que atendem a um filtro, em uma determinada ordem.
+     * Apenas as posições dos produtos encontrados são armazenadas: o
+     * resultado é uma visão, somente leitura, da lista de produtos do
+     * catálogo.
+     *
+     * @param filtro filtro que os produtos devem atender
+     * @param ordenacao ordem dos produtos no resultado
+     * @return os produtos encontrados
+     */
+    public List<Produto> consultar(FiltroProduto filtro, OrdenacaoProduto ordenacao) {
+        final Indices atuais = indicesAtualizados();
+        final int[] posicoes;
+        final boolean ordenadoPorEstoque;
+        if (filtro.getMarca() != null) {
+            posicoes = atuais.filtrarMarca(produtos, filtro);
+            ordenadoPorEstoque = false;
+        } else if (filtro.isFiltraEstoque()) {
+            posicoes = atuais.filtrarEstoque(produtos, filtro);
+            ordenadoPorEstoque = true;
+        } else {
+            posicoes = atuais.filtrarTodos(produtos, filtro);
+            ordenadoPorEstoque = false;
+        }
+
+        switch (ordenacao) {
+            case CATALOGO:
+                if (ordenadoPorEstoque) {
+                    Arrays.sort(posicoes);
+                }
+                break;
+            case ESTOQUE_CRESCENTE:
+                if (!ordenadoPorEstoque) {
+                    ordenarPorChave(posicoes, atuais.estoques, false);
+                }
+                break;
+            case ESTOQUE_DECRESCENTE:
+                ordenarPorChave(posicoes, atuais.estoques, true);
+                break;
+            default:
+                ordenarPorChave(posicoes, atuais.rankMarcas, false);
+        }
+
+        return new ResultadoConsulta(produtos, posicoes);
+    }
+
+    /**
+     * Ordena posições de produtos por uma chave int de cada posição. Cada
+     * posição é combinada com a sua chave em um único long, com a chave nos
+     * 32 bits mais significativos, de modo que ordenar os valores long ordena
+     * as posições pela chave e, em caso de empate, pela própria posição.
+     *
+     * @param posicoes posições a serem ordenadas
+     * @param chaves chave de cada posição do catálogo
+     * @param decrescente indica se a ordem da chave deve ser invertida
+     */
+    private static void ordenarPorChave(int[] posicoes, int[] chaves, boolean decrescente) {
+        final long[] combinados = new long[posicoes.length];
+        for (int i = 0; i < posicoes.length; i++) {
+            final int chave = decrescente ? ~chaves[posicoes[i]] : chaves[posicoes[i]];
+            combinados[i] = combinar(chave, posicoes[i]);
+        }
+
+        Arrays.sort(combinados);
+        for (int i = 0; i < posicoes.length; i++) {
+            posicoes[i] = (int) combinados[i];
+        }
+    }
+
+    /**
+     * Combina uma chave e uma posição em um único long, com a chave nos 32
+     * bits mais significativos.
+     */
+    private static long combinar(int chave, int posicao) {
+        return (long) chave << 32 | posicao;
+    }
+
+    /**
+     * Índices gerados a partir de um estado da lista de produtos. Não são
+     * alterados depois de criados: uma atualização gera novos índices a
+     * partir dos anteriores.
+     */
+    private static final class Indices {
+
+        /**
+         * Estoque de cada posição do catálogo.
+         */
+        final int[] estoques;
+
+        /**
+         * Versão do produto de cada posição do catálogo no momento em que foi
+         * indexado.
+         */
+        final int[] versoes;
+
+        /**
+         * Posições do catálogo ordenadas pelo estoque.
+         */
+        final int[] ordemEstoque;
+
+        /**
+         * Estoques do catálogo em ordem crescente, correspondentes às
+         * posições de {@link #ordemEstoque}, para a busca binária.
+         */
+        final int[] estoquesOrdenados;
+
+        /**
+         * Identificador de cada marca distinta, na ordem em que aparecem no
+         * catálogo. Marcas que deixaram de existir após uma atualização
+         * continuam no mapa, sem posições, até que os índices sejam gerados
+         * novamente por completo.
+         */
+        final Map<String, Integer> marcas;
+
+        /**
+         * Identificador da marca de cada posição do catálogo.
+         */
+        final int[] idMarcas;
+
+        /**
+         * Posições do catálogo agrupadas por marca, em ordem crescente dentro
+         * de cada grupo. As posições da marca de identificador i estão entre
+         * inicioMarcas[i] (inclusive) e inicioMarcas[i + 1].
+         */
+        final int[] posicoesMarcas;
+
+        final int[] inicioMarcas;
+
+        /**
+         * Posição da marca de cada posição do catálogo na ordem alfabética das
+         * marcas.
+         */
+        final int[] rankMarcas;
+
+        /**
+         * Gera os índices lendo todos os produtos da lista.
+         *
+         * @param produtos lista de produtos do catálogo
+         * @return os índices gerados
+         */
+        static Indices gerar(List<Produto> produtos) {
+            final int tamanho = produtos.size();
+            final int[] estoques = new int[tamanho];
+            final int[] versoes = new int[tamanho];
+            final int[] idMarcas = new int[tamanho];
+            final Map<String, Integer> marcas = new HashMap<>();
+            final long[] combinados = new long[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                final Produto produto = produtos.get(i);
+                /* A versão é lida antes dos valores: se o produto for alterado
+                 * durante a leitura, será lido novamente na próxima atualização. */
+                versoes[i] = produto.getVersao();
+                estoques[i] = produto.getEstoque();
+                idMarcas[i] = idMarca(marcas, produto.getMarca());
+                combinados[i] = combinar(estoques[i], i);
+            }
+
+            Arrays.sort(combinados);
+            return new Indices(estoques, versoes, combinados, marcas, idMarcas);
+        }
+
+        /**
+         * Gera novos índices a partir destes, lendo novamente apenas os
+         * produtos das posições alteradas. As posições que não mudaram mantêm
+         * sua ordem no índice de estoque e as alteradas são intercaladas a
+         * elas, sem ordenar o catálogo completo.
+         *
+         * @param produtos lista de produtos do catálogo
+         * @param alteradas posições alteradas, em ordem crescente
+         * @param totalAlteradas quantidade de posições alteradas
+         * @return os índices atualizados
+         */
+        Indices atualizar(List<Produto> produtos, int[] alteradas, int totalAlteradas) {
+            final int[] novosEstoques = estoques.clone();
+            final int[] novasVersoes = versoes.clone();
+            final int[] novosIdMarcas = idMarcas.clone();
+            final Map<String, Integer> novasMarcas = new HashMap<>(marcas);
+            final boolean[] alterada = new boolean[estoques.length];
+            final long[] reposicionados = new long[totalAlteradas];
+            for (int i = 0; i < totalAlteradas; i++) {
+                final int posicao = alteradas[i];
+                final Produto produto = produtos.get(posicao);
+                novasVersoes[posicao] = produto.getVersao();
+                novosEstoques[posicao] = produto.getEstoque();
+                novosIdMarcas[posicao] = idMarca(novasMarcas, produto.getMarca());
+                reposicionados[i] = combinar(novosEstoques[posicao], posicao);
+                alterada[posicao] = true;
+            }
+            Arrays.sort(reposicionados);
+
+            /* Intercala as posições não alteradas, já ordenadas, com as
+             * alteradas, recém ordenadas. */
+            final long[] combinados = new long[estoques.length];
+            int total = 0;
+            int proximaReposicionada = 0;
+            for (int i = 0; i < ordemEstoque.length; i++) {
+                final int posicao = ordemEstoque[i];
+                if (alterada[posicao]) {
+                    continue;
+                }
+
+                final long combinado = combinar(estoquesOrdenados[i], posicao);
+                while (proximaReposicionada < totalAlteradas && reposicionados[proximaReposicionada] < combinado) {
+                    combinados[total++] = reposicionados[proximaReposicionada++];
+                }
+                combinados[total++] = combinado;
+            }
+            while (proximaReposicionada < totalAlteradas) {
+                combinados[total++] = reposicionados[proximaReposicionada++];
+            }
+
+            return new Indices(novosEstoques, novasVersoes, combinados, novasMarcas, novosIdMarcas);
+        }
+
+        /**
+         * Instancia os índices a partir dos valores de cada posição e das
+         * posições já ordenadas pelo estoque, agrupando as posições por marca
+         * com uma ordenação por contagem.
+         *
+         * @param combinados estoque e posição de cada produto, combinados por
+         * {@link #combinar(int, int)} e em ordem crescente
+         */
+        private Indices(int[] estoques, int[] versoes, long[] combinados,
+                Map<String, Integer> marcas, int[] idMarcas) {
+            final int tamanho = estoques.length;
+            this.estoques = estoques;
+            this.versoes = versoes;
+            this.marcas = marcas;
+            this.idMarcas = idMarcas;
+
+            ordemEstoque = new int[tamanho];
+            estoquesOrdenados = new int[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                ordemEstoque[i] = (int) combinados[i];
+                estoquesOrdenados[i] = (int) (combinados[i] >> 32);
+            }
+
+            inicioMarcas = new int[marcas.size() + 1];
+            for (int idMarca : idMarcas) {
+                inicioMarcas[idMarca + 1]++;
+            }
+            for (int i = 0; i < marcas.size(); i++) {
+                inicioMarcas[i + 1] += inicioMarcas[i];
+            }
+            posicoesMarcas = new int[tamanho];
+            final int[] proximas = Arrays.copyOf(inicioMarcas, marcas.size());
+            for (int i = 0; i < tamanho; i++) {
+                posicoesMarcas[proximas[idMarcas[i]]++] = i;
+            }
+
+            final String[] nomesMarcas = marcas.keySet().toArray(new String[0]);
+            Arrays.sort(nomesMarcas, Comparator.nullsFirst(Comparator.naturalOrder()));
+            final int[] rankPorId = new int[marcas.size()];
+            for (int rank = 0; rank < nomesMarcas.length; rank++) {
+                rankPorId[marcas.get(nomesMarcas[rank])] = rank;
+            }
+            rankMarcas = new int[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                rankMarcas[i] = rankPorId[idMarcas[i]];
+            }
+        }
+
+        /**
+         * Obtém o identificador de uma marca, incluindo-a no mapa se ela ainda
+         * não existir.
+         */
+        private static int idMarca(Map<String, Integer> marcas, String marca) {
+            final Integer existente = marcas.get(marca);
+            if (existente != null) {
+                return existente;
+            }
+
+            final int id = marcas.size();
+            marcas.put(marca, id);
+            return id;
+        }
+
+        /**
+         * Compara a versão atual de cada produto à versão indexada,
+         * armazenando as posições alteradas enquanto couberem no vetor
+         * informado.
+         *
+         * @param produtos lista de produtos do catálogo
+         * @param alteradas vetor onde as posições alteradas serão armazenadas,
+         * em ordem crescente, ou null se elas não forem necessárias
+         * @return a quantidade de posições alteradas encontradas, que passa do
+         * tamanho do vetor se nem todas couberem nele
+         */
+        int contarAlteradas(List<Produto> produtos, int[] alteradas) {
+            final int limite = alteradas == null ? 0 : alteradas.length;
+            int total = 0;
+            for (int i = 0; i < versoes.length && total <= limite; i++) {
+                if (produtos.get(i).getVersao() != versoes[i]) {
+                    if (total < limite) {
+                        alteradas[total] = i;
+                    }
+                    total++;
+                }
+            }
+            return total;
+        }
+
+        /**
+         * Filtra os produtos de uma marca pelos demais critérios do filtro.
+         *
+         * @return as posições encontradas, em ordem crescente
+         */
+        int[] filtrarMarca(List<Produto> produtos, FiltroProduto filtro) {
+            final Integer idMarca = marcas.get(filtro.getMarca());
+            if (idMarca == null) {
+                return new int[0];
+            }
+
+            final int inicio = inicioMarcas[idMarca];
+            final int fim = inicioMarcas[idMarca + 1];
+            final int[] encontradas = new int[fim - inicio];
+            int total = 0;
+            for (int i = inicio; i < fim; i++) {
+                final int posicao = posicoesMarcas[i];
+                if (filtro.aceitaEstoque(estoques[posicao]) && filtro.aceitaCondicao(produtos.get(posicao))) {
+                    encontradas[total++] = posicao;
+                }
+            }
+            return Arrays.copyOf(encontradas, total);
+        }
+
+        /**
+         * Localiza a faixa de estoque do filtro no índice de estoque e a
+         * filtra pela condição adicional.
+         *
+         * @return as posições encontradas, em ordem crescente de estoque
+         */
+        int[] filtrarEstoque(List<Produto> produtos, FiltroProduto filtro) {
+            if (filtro.getEstoqueMinimo() > filtro.getEstoqueMaximo()) {
+                return new int[0];
+            }
+
+            final int inicio = primeiroMaiorOuIgual(filtro.getEstoqueMinimo());
+            final int fim = filtro.getEstoqueMaximo() == Integer.MAX_VALUE
+                    ? estoquesOrdenados.length : primeiroMaiorOuIgual(filtro.getEstoqueMaximo() + 1);
+            final int[] encontradas = new int[fim - inicio];
+            int total = 0;
+            for (int i = inicio; i < fim; i++) {
+                final int posicao = ordemEstoque[i];
+                if (filtro.aceitaCondicao(produtos.get(posicao))) {
+                    encontradas[total++] = posicao;
+                }
+            }
+            return Arrays.copyOf(encontradas, total);
+        }
+
+        /**
+         * Filtra todos os produtos pela condição adicional do filtro.
+         *
+         * @return as posições encontradas, em ordem crescente
+         */
+        int[] filtrarTodos(List<Produto> produtos, FiltroProduto filtro) {
+            final int[] encontradas = new int[estoques.length];
+            int total = 0;
+            for (int posicao = 0; posicao < estoques.length; posicao++) {
+                if (filtro.aceitaCondicao(produtos.get(posicao))) {
+                    encontradas[total++] = posicao;
+                }
+            }
+            return total == encontradas.length ? encontradas : Arrays.copyOf(encontradas, total);
+        }
+
+        /**
+         * @return a primeira posição de {@link #estoquesOrdenados} com valor
+         * maior ou igual ao informado
+         */
+        private int primeiroMaiorOuIgual(int estoque) {
+            int inicio = 0;
+            int fim = estoquesOrdenados.length;
+            while (inicio < fim) {
+                final int meio = (inicio + fim) >>> 1;
+                if (estoquesOrdenados[meio] < estoque) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+            return inicio;
+        }
+    }
+
+    /**
+     * Visão somente leitura dos produtos de uma consulta, formada pelas
+     * posições dos produtos na lista do catálogo.
+     */
+    private static final class ResultadoConsulta extends AbstractList<Produto> implements RandomAccess {
+
+        private final List<Produto> produtos;
+
+        private final int[] posicoes;
+
+        ResultadoConsulta(List<Produto> produtos, int[] posicoes) {
+            this.produtos = produtos;
+            this.posicoes = posicoes;
+        }
+
+        @Override
+        public Produto get(int index) {
+            return produtos.get(posicoes[index]);
+        }
+
+        @Override
+        public int size() {
+            return posicoes.length;
+        }
+    }
+
+}
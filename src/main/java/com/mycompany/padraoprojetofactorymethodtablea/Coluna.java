@@ -82,6 +82,17 @@ public interface Coluna {
      */
     String exportarCabecalho();
 
+    /**
+     * Gera o código para representar o título da coluna em um formato
+     * específico, adicionando-o diretamente ao final de um buffer fornecido
+     * por quem chama o método.
+     *
+     * @param destino buffer onde o código da coluna será adicionado
+     */
+    default void exportarCabecalho(StringBuilder destino) {
+        destino.append(exportarCabecalho());
+    }
+
     /**
      * Gera o código para representar a coluna em um formato específico,
      * contendo o dado armazenado em um atributo de um objeto da lista a ser
@@ -93,4 +104,25 @@ public interface Coluna {
      */
     String exportarDado(Produto produto);
 
+    /**
+     * Gera o código para representar a coluna em um formato específico,
+     * adicionando a abertura da coluna, o dado do produto e o fechamento
+     * diretamente ao final de um buffer fornecido por quem chama o método.
+     * Assim, uma linha inteira da tabela pode ser gerada em um único buffer,
+     * sem criar uma String temporária para cada coluna.
+     *
+     * <p>
+     * A implementação padrão apenas adiciona o retorno de
+     * {@link #exportarDado(Produto)} ao buffer. As subclasses de
+     * {@link AbstractColuna} sobrescrevem este método para não criar tal
+     * String intermediária.</p>
+     *
+     * @param produto produto de onde o valor de um determinado campo será obtido
+     * para exibição na coluna
+     * @param destino buffer onde o código da coluna será adicionado
+     */
+    default void exportarDado(Produto produto, StringBuilder destino) {
+        destino.append(exportarDado(produto));
+    }
+
 }
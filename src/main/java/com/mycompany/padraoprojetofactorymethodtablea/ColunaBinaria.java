@@ -0,0 +1,105 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Gera dados de um atributo de um objeto como uma coluna em um arquivo
+ * colunar binário, gerado por {@link ExportadorColunarBinario}. No arquivo,
+ * os valores são gravados de acordo com o seu tipo; a representação textual
+ * da coluna não possui marcação alguma.
+ *
+ * @author Lidiane
+ */
+class ColunaBinaria extends AbstractColuna {
+
+    /**
+     * Instancia uma coluna para um arquivo colunar binário, cujo valor a ser
+     * gravado será obtido a partir de uma função que recebe um objeto da lista
+     * a ser exportada e retorna uma String com dados obtidos de qualquer
+     * atributo deste objeto.
+     *
+     * @param obtemValorColuna uma função ({@link Function}) que recebe um
+     * objeto da lista a ser exportada e retorna uma String que representa o
+     * conteúdo a ser exibido para a coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaBinaria(Function<Produto, Object> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para um arquivo colunar binário, cujo valor int a
+     * ser gravado será obtido a partir de uma função que recebe um objeto da
+     * lista a ser exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToIntFunction}) que recebe um
+     * objeto da lista a ser exportada e retorna o valor int a ser exibido na
+     * coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaBinaria(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para um arquivo colunar binário, cujo valor long a
+     * ser exibido será obtido a partir de uma função que recebe um objeto da
+     * lista a ser exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToLongFunction}) que recebe
+     * um objeto da lista a ser exportada e retorna o valor long a ser exibido
+     * na coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaBinaria(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para um arquivo colunar binário, cujo valor a ser
+     * gravado será obtido a partir de um campo (atributo) específico de um
+     * objeto.
+     *
+     * @param campo campo (atributo) do objeto a ser obtido o valor
+     */
+    public ColunaBinaria(Field campo) {
+        super(campo);
+    }
+
+    @Override
+    public String abrir() {
+        return "";
+    }
+
+    @Override
+    public String fechar() {
+        return "";
+    }
+
+}
@@ -0,0 +1,139 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Gera dados de um atributo de um objeto como uma coluna em uma tabela CSV
+ * (valores separados por vírgula).
+ *
+ * @author Lidiane
+ */
+class ColunaCsv extends AbstractColuna {
+
+    /**
+     * Instancia uma coluna para uma tabela CSV, cujo valor a ser exibido será
+     * obtido a partir de uma função que recebe um objeto da lista a ser
+     * exportada e retorna uma String com dados obtidos de qualquer atributo
+     * deste objeto.
+     *
+     * @param obtemValorColuna uma função ({@link Function}) que recebe um
+     * objeto da lista a ser exportada e retorna uma String que representa o
+     * conteúdo a ser exibido para a coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaCsv(Function<Produto, Object> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para uma tabela CSV, cujo valor int a ser exibido
+     * será obtido a partir de uma função que recebe um objeto da lista a ser
+     * exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToIntFunction}) que recebe um
+     * objeto da lista a ser exportada e retorna o valor int a ser exibido na
+     * coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaCsv(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para uma tabela CSV, cujo valor long a ser
+     * exibido será obtido a partir de uma função que recebe um objeto da lista
+     * a ser exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToLongFunction}) que recebe
+     * um objeto da lista a ser exportada e retorna o valor long a ser exibido
+     * na coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaCsv(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para uma tabela CSV, cujo valor a ser exibido será
+     * obtido a partir de um campo (atributo) específico de um objeto.
+     *
+     * @param campo campo (atributo) do objeto a ser obtido o valor
+     */
+    public ColunaCsv(Field campo) {
+        super(campo);
+    }
+
+    @Override
+    public String abrir() {
+        return "";
+    }
+
+    @Override
+    public String fechar() {
+        return "";
+    }
+
+    /**
+     * Adiciona um texto ao buffer seguindo a RFC 4180: se o texto possuir
+     * vírgula, aspas ou quebra de linha, ele é delimitado por aspas e cada
+     * aspa é duplicada. O texto é percorrido uma única vez e, se não possuir
+     * tais caracteres, é copiado diretamente para o buffer.
+     *
+     * @param texto texto a ser adicionado
+     * @param destino buffer onde o texto será adicionado
+     */
+    @Override
+    protected void anexarTexto(CharSequence texto, StringBuilder destino) {
+        final int tamanho = texto.length();
+        int i = 0;
+        while (i < tamanho && !exigeAspas(texto.charAt(i))) {
+            i++;
+        }
+
+        if (i == tamanho) {
+            destino.append(texto);
+            return;
+        }
+
+        destino.append('"').append(texto, 0, i);
+        for (; i < tamanho; i++) {
+            final char c = texto.charAt(i);
+            if (c == '"') {
+                destino.append('"');
+            }
+            destino.append(c);
+        }
+        destino.append('"');
+    }
+
+    private static boolean exigeAspas(char c) {
+        return c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+
+}
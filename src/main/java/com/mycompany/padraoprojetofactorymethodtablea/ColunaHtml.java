@@ -23,7 +23,10 @@
  */
 package com.mycompany.padraoprojetofactorymethodtablea;
 
+import java.lang.reflect.Field;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  *
@@ -51,6 +54,44 @@ class ColunaHtml extends AbstractColuna {
         super(obtemValorColuna, titulo);
     }
 
+    /**
+     * Instancia uma coluna para uma tabela HTML, cujo valor int a ser exibido
+     * será obtido a partir de uma função que recebe um objeto da lista a ser
+     * exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToIntFunction}) que recebe um
+     * objeto da lista a ser exportada e retorna o valor int a ser exibido na
+     * coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaHtml(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para uma tabela HTML, cujo valor long a ser
+     * exibido será obtido a partir de uma função que recebe um objeto da lista
+     * a ser exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToLongFunction}) que recebe
+     * um objeto da lista a ser exportada e retorna o valor long a ser exibido
+     * na coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaHtml(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para uma tabela HTML, cujo valor a ser exibido será
+     * obtido a partir de um campo (atributo) específico de um objeto.
+     *
+     * @param campo campo (atributo) do objeto a ser obtido o valor
+     */
+    public ColunaHtml(Field campo) {
+        super(campo);
+    }
+
     @Override
     public String abrir() {
         return "<td>";
@@ -61,4 +102,61 @@ class ColunaHtml extends AbstractColuna {
         return "</td>";
     }
 
+    /**
+     * Adiciona um texto ao buffer, substituindo os caracteres &lt;, &gt;,
+     * &amp;, aspas duplas e aspas simples pelas respectivas entidades HTML. O
+     * texto é percorrido uma única vez: os trechos sem caracteres especiais
+     * são copiados diretamente para o buffer e as entidades são adicionadas
+     * no lugar dos caracteres especiais, sem criar Strings intermediárias. Um
+     * texto sem caracteres especiais é copiado de uma só vez.
+     *
+     * @param texto texto a ser adicionado
+     * @param destino buffer onde o texto será adicionado
+     */
+    @Override
+    protected void anexarTexto(CharSequence texto, StringBuilder destino) {
+        final int tamanho = texto.length();
+        int inicioTrecho = 0;
+        for (int i = 0; i < tamanho; i++) {
+            final String entidade = entidade(texto.charAt(i));
+            if (entidade != null) {
+                destino.append(texto, inicioTrecho, i).append(entidade);
+                inicioTrecho = i + 1;
+            }
+        }
+
+        if (inicioTrecho == 0) {
+            destino.append(texto);
+        } else {
+            destino.append(texto, inicioTrecho, tamanho);
+        }
+    }
+
+    /**
+     * Obtém a entidade HTML que representa um caractere especial.
+     *
+     * @param c caractere a ser verificado
+     * @return a entidade ou null se o caractere não precisar ser escapado
+     */
+    private static String entidade(char c) {
+        if (c > '>') {
+            return null;
+        }
+
+        switch (c) {
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '&':
+                return "&amp;";
+            case '"':
+                return "&quot;";
+            case '\'':
+                return "&#39;";
+            default:
+                return null;
+        }
+    }
+
 }
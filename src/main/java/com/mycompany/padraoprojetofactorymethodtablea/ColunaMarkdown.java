@@ -23,7 +23,10 @@
  */
 package com.mycompany.padraoprojetofactorymethodtablea;
 
+import java.lang.reflect.Field;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  *
@@ -53,6 +56,44 @@ class ColunaMarkdown extends AbstractColuna {
         super(obtemValorColuna, titulo);
     }
 
+    /**
+     * Instancia uma coluna para uma tabela Markdown, cujo valor int a ser exibido
+     * será obtido a partir de uma função que recebe um objeto da lista a ser
+     * exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToIntFunction}) que recebe um
+     * objeto da lista a ser exportada e retorna o valor int a ser exibido na
+     * coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaMarkdown(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para uma tabela Markdown, cujo valor long a ser
+     * exibido será obtido a partir de uma função que recebe um objeto da lista
+     * a ser exportada.
+     *
+     * @param obtemValorColuna uma função ({@link ToLongFunction}) que recebe
+     * um objeto da lista a ser exportada e retorna o valor long a ser exibido
+     * na coluna
+     * @param titulo título a ser exibido na coluna
+     */
+    public ColunaMarkdown(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        super(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Instancia uma coluna para uma tabela Markdown, cujo valor a ser exibido será
+     * obtido a partir de um campo (atributo) específico de um objeto.
+     *
+     * @param campo campo (atributo) do objeto a ser obtido o valor
+     */
+    public ColunaMarkdown(Field campo) {
+        super(campo);
+    }
+
     @Override
     public String abrir() {
         return " | ";
@@ -0,0 +1,283 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gera uma tabela compactada em gzip dividindo-a em blocos de linhas que são
+ * gerados e compactados em paralelo, cada um como um membro gzip
+ * independente. Os blocos são gravados no destino na ordem da lista e apenas
+ * uma janela limitada de blocos compactados fica em memória: um novo bloco só
+ * é submetido depois que o mais antigo é gravado.
+ *
+ * <p>
+ * Se a tabela possuir agregações, cada bloco acumula as agregações dos seus
+ * produtos e a linha de rodapé, que depende de todos os blocos, é gravada
+ * junto com o fechamento da tabela em um último membro gzip.</p>
+ *
+ * <p>
+ * Os blocos são compactados pelo pool compartilhado de
+ * {@link PoolsParalelos}, e cada thread do pool reaproveita um mesmo buffer de
+ * codificação em todos os blocos que compacta.</p>
+ *
+ * @author Lidiane
+ * @see ExportacaoCompactada#exportarParalelo(List, OutputStream, int)
+ */
+final class CompactacaoGzip {
+
+    /**
+     * Tamanho dos buffers usados na compactação, em bytes. Buffers maiores
+     * que o padrão de 512 bytes do {@link GZIPOutputStream} reduzem a
+     * quantidade de chamadas ao compactador nativo.
+     */
+    static final int TAMANHO_BUFFER = 1 << 16;
+
+    /**
+     * Quantidade de linhas em cada bloco compactado independentemente.
+     * Blocos grandes mantêm a taxa de compactação próxima à de um fluxo
+     * único, pois cada membro gzip recomeça o dicionário do compactador.
+     */
+    static final int LINHAS_POR_BLOCO = 8192;
+
+    /**
+     * Quantidade máxima de blocos, por thread, submetidos e ainda não
+     * gravados no destino.
+     */
+    private static final int BLOCOS_POR_THREAD = 2;
+
+    /**
+     * Buffer de codificação UTF-8 de cada thread que compacta blocos.
+     */
+    private static final ThreadLocal<ByteBuffer> BUFFER_THREAD =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(TAMANHO_BUFFER));
+
+    private final AbstractExportadorListaProduto exportador;
+
+    private final CabecalhoTabela cabecalhoTabela;
+
+    private final List<Produto> produtos;
+
+    private final int totalBlocos;
+
+    /**
+     * Totais das agregações de cada bloco, ou null se a tabela não possuir
+     * agregações.
+     */
+    private final TotaisTabela[] totaisBlocos;
+
+    /**
+     * Quantidade de caracteres gerados, antes da compactação, somada por
+     * bloco.
+     */
+    private final LongAdder caracteres = new LongAdder();
+
+    CompactacaoGzip(AbstractExportadorListaProduto exportador, CabecalhoTabela cabecalhoTabela, List<Produto> produtos) {
+        this.exportador = exportador;
+        this.cabecalhoTabela = cabecalhoTabela;
+        this.produtos = produtos;
+        this.totalBlocos = Math.max(1, (produtos.size() + LINHAS_POR_BLOCO - 1) / LINHAS_POR_BLOCO);
+        this.totaisBlocos = cabecalhoTabela.getColunasAgregadas().length == 0 ? null : new TotaisTabela[totalBlocos];
+    }
+
+    /**
+     * Cria um fluxo gzip com buffer de {@link #TAMANHO_BUFFER} bytes sobre um
+     * destino. Fechar o fluxo gzip conclui a compactação e libera o
+     * compactador nativo, mas não fecha o destino.
+     *
+     * @param destino fluxo onde os dados compactados serão gravados
+     * @return o fluxo gzip
+     * @throws IOException se ocorrer um erro ao gravar o cabeçalho gzip
+     */
+    static GZIPOutputStream newGzip(OutputStream destino) throws IOException {
+        return new GZIPOutputStream(new DestinoNaoFechavel(destino), TAMANHO_BUFFER);
+    }
+
+    /**
+     * Gera e compacta os blocos com uma determinada quantidade de threads,
+     * gravando-os no destino.
+     *
+     * @param destino fluxo onde a tabela compactada será gravada
+     * @param paralelismo quantidade de threads
+     * @return a quantidade de caracteres gerados, antes da compactação
+     * @throws IOException se ocorrer um erro ao gravar no destino ou se a
+     * exportação for interrompida
+     */
+    long exportarParalelo(OutputStream destino, int paralelismo) throws IOException {
+        final int janela = paralelismo * BLOCOS_POR_THREAD;
+        final Queue<Future<byte[]>> pendentes = new ArrayDeque<>(janela);
+        final ForkJoinPool pool = PoolsParalelos.obter(paralelismo);
+        try {
+            int proximoBloco = 0;
+            while (proximoBloco < totalBlocos || !pendentes.isEmpty()) {
+                while (proximoBloco < totalBlocos && pendentes.size() < janela) {
+                    final int indice = proximoBloco++;
+                    pendentes.add(pool.submit(() -> compactarBloco(indice)));
+                }
+                destino.write(aguardar(pendentes.poll()));
+            }
+
+            if (totaisBlocos != null) {
+                gravarRodape(destino);
+            }
+            destino.flush();
+            return caracteres.sum();
+        } finally {
+            /* Em caso de erro, os blocos ainda não compactados são descartados. */
+            for (Future<byte[]> pendente : pendentes) {
+                pendente.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Combina os totais de todos os blocos e grava a linha de rodapé e o
+     * fechamento da tabela como um membro gzip.
+     *
+     * @param destino fluxo onde a tabela compactada está sendo gravada
+     * @throws IOException se ocorrer um erro ao gravar no destino
+     */
+    private void gravarRodape(OutputStream destino) throws IOException {
+        final TotaisTabela totais = cabecalhoTabela.novosTotais();
+        for (TotaisTabela totaisBloco : totaisBlocos) {
+            totais.combinar(totaisBloco);
+        }
+
+        final StringBuilder rodape = new StringBuilder();
+        totais.gerarRodape(rodape);
+        rodape.append(cabecalhoTabela.getFecharTabela());
+        try (GZIPOutputStream gzip = newGzip(destino)) {
+            final SaidaUtf8 saida = new SaidaUtf8(gzip, ByteBuffer.allocate(TAMANHO_BUFFER));
+            saida.append(rodape);
+            saida.descarregar();
+        }
+        caracteres.add(rodape.length());
+    }
+
+    /**
+     * Gera as linhas de um bloco e as compacta como um membro gzip. O
+     * primeiro bloco inclui o cabeçalho da tabela e o último, o seu
+     * fechamento, exceto quando a tabela possui agregações.
+     *
+     * @param indice índice do bloco
+     * @return os bytes do membro gzip
+     * @throws IOException se ocorrer um erro na compactação
+     */
+    private byte[] compactarBloco(int indice) throws IOException {
+        final int inicio = indice * LINHAS_POR_BLOCO;
+        final int fim = Math.min(produtos.size(), inicio + LINHAS_POR_BLOCO);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(TAMANHO_BUFFER);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes, TAMANHO_BUFFER)) {
+            final SaidaUtf8 saida = new SaidaUtf8(gzip, BUFFER_THREAD.get());
+            long caracteresBloco = 0;
+            if (indice == 0) {
+                saida.append(cabecalhoTabela.getCabecalho());
+                caracteresBloco += cabecalhoTabela.getCabecalho().length();
+            }
+
+            final TotaisTabela totais = cabecalhoTabela.novosTotais();
+            final StringBuilder linha = new StringBuilder();
+            for (Produto produto : produtos.subList(inicio, fim)) {
+                exportador.gerarColunasLinha(cabecalhoTabela, produto, linha);
+                if (totais != null) {
+                    totais.acumular(produto);
+                }
+                saida.append(linha);
+                caracteresBloco += linha.length();
+                linha.setLength(0);
+            }
+
+            if (totais != null) {
+                totaisBlocos[indice] = totais;
+            } else if (indice == totalBlocos - 1) {
+                saida.append(cabecalhoTabela.getFecharTabela());
+                caracteresBloco += cabecalhoTabela.getFecharTabela().length();
+            }
+            saida.descarregar();
+            caracteres.add(caracteresBloco);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] aguardar(Future<byte[]> bloco) throws IOException {
+        try {
+            return bloco.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("A exportação compactada foi interrompida");
+        } catch (ExecutionException e) {
+            /* O ForkJoinPool envolve as exceções verificadas lançadas pelas
+             * tarefas em RuntimeExceptions, logo a IOException original é
+             * procurada em toda a cadeia de causas. */
+            final Throwable causa = e.getCause();
+            for (Throwable atual = causa; atual != null; atual = atual.getCause()) {
+                if (atual instanceof IOException) {
+                    throw (IOException) atual;
+                }
+            }
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw new IOException(causa);
+        }
+    }
+
+    /**
+     * Repassa os bytes para um fluxo de saída, mas apenas o descarrega ao ser
+     * fechado, para que o fluxo do chamador permaneça aberto.
+     */
+    private static final class DestinoNaoFechavel extends FilterOutputStream {
+
+        DestinoNaoFechavel(OutputStream destino) {
+            super(destino);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Exporta produtos em uma única tabela, separando-os em grupos (e subgrupos)
+ * por meio de linhas de grupo, como "Marca: LG". Cada linha de grupo é
+ * formatada pelos métodos
+ * {@link ExportadorListaProduto#abrirLinhaGrupo(int, int)} e
+ * {@link ExportadorListaProduto#fecharLinhaGrupo(int, int)} do exportador.
+ *
+ * @author Lidiane
+ */
+public class ExportacaoAgrupada {
+
+    private final AbstractExportadorListaProduto exportador;
+
+    private final NivelAgrupamento[] niveis;
+
+    /**
+     * Instancia uma exportação agrupada.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @param niveis níveis de agrupamento, do mais externo ao mais interno
+     * @throws IllegalArgumentException se o exportador não for uma subclasse
+     * de {@link AbstractExportadorListaProduto}
+     */
+    public ExportacaoAgrupada(ExportadorListaProduto exportador, List<NivelAgrupamento> niveis) {
+        this.exportador = AbstractExportadorListaProduto.exigirSubclasse(exportador);
+        this.niveis = niveis.toArray(new NivelAgrupamento[0]);
+    }
+
+    /**
+     * Exporta os produtos já ordenados pelas chaves dos níveis de
+     * agrupamento, de modo que os produtos de cada grupo sejam contíguos: a
+     * tabela é então gerada em fluxo, em uma única passagem, emitindo uma
+     * linha de grupo sempre que a chave de um nível muda (o que também inicia
+     * um novo grupo em todos os níveis mais internos). Se a fonte não estiver
+     * ordenada, um mesmo grupo aparecerá mais de uma vez; neste caso, use
+     * {@link #exportar(Iterable, Appendable)}.
+     *
+     * @param produtos produtos a serem exportados, ordenados pelas chaves dos
+     * grupos
+     * @param destino onde a tabela será escrita
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    public void exportarOrdenado(Iterable<Produto> produtos, Appendable destino) throws IOException {
+        exportador.gerarTabela(produtos.iterator(), niveis, destino);
+    }
+
+    /**
+     * Exporta os produtos da mesma forma que
+     * {@link #exportarOrdenado(Iterable, Appendable)}, mas sem exigir que a
+     * fonte esteja ordenada. Os produtos são antes particionados pelas chaves
+     * dos grupos, por meio de tabelas hash, em uma única passagem e sem
+     * ordenar a fonte. Os grupos aparecem na ordem em que sua primeira chave
+     * aparece na fonte e os produtos de cada grupo mantêm a ordem da fonte.
+     *
+     * @param produtos produtos a serem exportados
+     * @param destino onde a tabela será escrita
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    public void exportar(Iterable<Produto> produtos, Appendable destino) throws IOException {
+        exportador.gerarTabela(ParticaoGrupos.particionar(produtos, niveis).iterator(), niveis, destino);
+    }
+
+}
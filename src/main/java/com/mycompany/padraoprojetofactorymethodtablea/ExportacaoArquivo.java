@@ -0,0 +1,76 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Exporta produtos gravando a tabela em um arquivo codificado em UTF-8. Cada
+ * linha é codificada diretamente em bytes UTF-8 em um buffer grande, que é
+ * gravado no arquivo em escritas sequenciais, sem que a tabela completa fique
+ * em memória. O buffer é reaproveitado pelas exportações seguintes feitas na
+ * mesma thread.
+ *
+ * @author Lidiane
+ */
+public class ExportacaoArquivo {
+
+    private final AbstractExportadorListaProduto exportador;
+
+    /**
+     * Instancia uma exportação para arquivo.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @throws IllegalArgumentException se o exportador não for uma subclasse
+     * de {@link AbstractExportadorListaProduto}
+     */
+    public ExportacaoArquivo(ExportadorListaProduto exportador) {
+        this.exportador = AbstractExportadorListaProduto.exigirSubclasse(exportador);
+    }
+
+    /**
+     * Exporta os produtos para um arquivo. Se o arquivo já existir, seu
+     * conteúdo é substituído.
+     *
+     * @param produtos produtos a serem exportados
+     * @param arquivo caminho do arquivo a ser gerado
+     * @throws IOException se ocorrer um erro ao gravar o arquivo
+     */
+    public void exportar(Iterable<Produto> produtos, Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final SaidaUtf8 saida = new SaidaUtf8(canal);
+            try {
+                exportador.gerarTabela(produtos.iterator(), saida);
+                saida.descarregar();
+            } finally {
+                saida.liberar();
+            }
+        }
+    }
+
+}
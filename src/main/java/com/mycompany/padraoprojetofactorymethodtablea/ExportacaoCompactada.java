@@ -0,0 +1,101 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exporta produtos gravando a tabela compactada em gzip em um fluxo de saída.
+ * A tabela é compactada à medida que as linhas são geradas, de modo que nem a
+ * tabela completa nem a sua versão compactada ficam em memória. O fluxo de
+ * saída nunca é fechado.
+ *
+ * @author Lidiane
+ */
+public class ExportacaoCompactada {
+
+    private final AbstractExportadorListaProduto exportador;
+
+    /**
+     * Instancia uma exportação compactada.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @throws IllegalArgumentException se o exportador não for uma subclasse
+     * de {@link AbstractExportadorListaProduto}
+     */
+    public ExportacaoCompactada(ExportadorListaProduto exportador) {
+        this.exportador = AbstractExportadorListaProduto.exigirSubclasse(exportador);
+    }
+
+    /**
+     * Exporta os produtos, compactando a tabela em uma única thread.
+     *
+     * @param produtos produtos a serem exportados
+     * @param destino fluxo onde a tabela compactada será gravada
+     * @throws IOException se ocorrer um erro ao gravar no fluxo
+     */
+    public void exportar(Iterable<Produto> produtos, OutputStream destino) throws IOException {
+        try (GZIPOutputStream gzip = CompactacaoGzip.newGzip(destino)) {
+            final SaidaUtf8 saida = new SaidaUtf8(gzip, ByteBuffer.allocate(CompactacaoGzip.TAMANHO_BUFFER));
+            exportador.gerarTabela(produtos.iterator(), saida);
+            saida.descarregar();
+        }
+    }
+
+    /**
+     * Exporta uma lista de produtos com a geração e a compactação
+     * distribuídas entre várias threads, como faz o pigz. A tabela é dividida
+     * em blocos de linhas e cada bloco é compactado como um membro gzip
+     * independente; como o formato gzip permite concatenar membros, o
+     * resultado é descompactado normalmente por qualquer ferramenta. Apenas
+     * alguns blocos por thread ficam em memória ao mesmo tempo, e eles são
+     * gravados no fluxo na ordem da lista.
+     *
+     * @param listaProdutos lista de produtos a ser exportada
+     * @param destino fluxo onde a tabela compactada será gravada
+     * @param paralelismo quantidade de threads usadas para gerar e compactar
+     * os blocos
+     * @throws IOException se ocorrer um erro ao gravar no fluxo ou se a
+     * exportação for interrompida
+     */
+    public void exportarParalelo(List<Produto> listaProdutos, OutputStream destino, int paralelismo)
+            throws IOException {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("O paralelismo deve ser maior que zero: " + paralelismo);
+        }
+
+        final OuvinteExportacao ouvinte = exportador.getOuvinte();
+        final long inicio = ouvinte == null ? 0 : System.nanoTime();
+        final long caracteres = new CompactacaoGzip(exportador, exportador.getCabecalho(), listaProdutos)
+                .exportarParalelo(destino, paralelismo);
+        if (ouvinte != null) {
+            ouvinte.exportacaoConcluida(exportador, listaProdutos.size(), caracteres, System.nanoTime() - inicio);
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Divide a exportação de uma lista de produtos em páginas de tamanho fixo,
+ * em que cada página é uma tabela completa (cabeçalho, linhas e fechamento),
+ * evitando tabelas com milhões de linhas que navegadores e visualizadores de
+ * Markdown não conseguem exibir.
+ *
+ * <p>
+ * As páginas são geradas apenas quando solicitadas e qualquer página pode
+ * ser gerada diretamente, sem gerar as anteriores: as linhas de uma página
+ * são obtidas por meio de {@link List#subList(int, int)}, logo a lista deve
+ * permitir acesso aleatório eficiente (como {@link java.util.ArrayList}).
+ * Todas as páginas usam os trechos fixos da tabela mantidos em cache pelo
+ * exportador.</p>
+ *
+ * <p>
+ * A quantidade de páginas é calculada a partir do tamanho atual da lista a
+ * cada chamada. Uma lista vazia possui uma única página, com uma tabela
+ * vazia.</p>
+ *
+ * @author Lidiane
+ */
+public class ExportacaoPaginada {
+
+    private final ExportadorListaProduto exportador;
+
+    private final List<Produto> produtos;
+
+    private final int linhasPorPagina;
+
+    /**
+     * Instancia uma exportação paginada.
+     *
+     * @param exportador exportador que define o formato das tabelas
+     * @param produtos lista de produtos a ser exportada
+     * @param linhasPorPagina quantidade máxima de linhas em cada página
+     */
+    public ExportacaoPaginada(ExportadorListaProduto exportador, List<Produto> produtos, int linhasPorPagina) {
+        if (linhasPorPagina < 1) {
+            throw new IllegalArgumentException("A quantidade de linhas por página deve ser maior que zero: " + linhasPorPagina);
+        }
+
+        this.exportador = Objects.requireNonNull(exportador);
+        this.produtos = Objects.requireNonNull(produtos);
+        this.linhasPorPagina = linhasPorPagina;
+    }
+
+    public int getLinhasPorPagina() {
+        return linhasPorPagina;
+    }
+
+    /**
+     * @return a quantidade de páginas, que é pelo menos 1
+     */
+    public int getTotalPaginas() {
+        return Math.max(1, (int) (((long) produtos.size() + linhasPorPagina - 1) / linhasPorPagina));
+    }
+
+    /**
+     * Gera uma página como uma String.
+     *
+     * @param pagina índice da página, iniciando em 0
+     * @return a tabela da página
+     */
+    public String exportar(int pagina) {
+        return exportador.exportar(linhas(pagina));
+    }
+
+    /**
+     * Gera uma página, enviando cada linha ao destino assim que ela é gerada.
+     *
+     * @param pagina índice da página, iniciando em 0
+     * @param destino onde a tabela da página será escrita
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    public void exportar(int pagina, Appendable destino) throws IOException {
+        exportador.exportar(linhas(pagina), destino);
+    }
+
+    /**
+     * Gera todas as páginas, em ordem, cada uma em seu próprio destino. O
+     * destino de cada página é obtido apenas quando a página vai ser gerada,
+     * e a página é gerada diretamente nele, de modo que apenas uma linha fica
+     * em memória por vez. Os destinos não são fechados.
+     *
+     * @param destinoPagina função que recebe o índice de uma página e retorna
+     * o destino onde ela será escrita
+     * @throws IOException se ocorrer um erro ao escrever em algum destino
+     */
+    public void exportarTodas(IntFunction<? extends Appendable> destinoPagina) throws IOException {
+        final int totalPaginas = getTotalPaginas();
+        for (int pagina = 0; pagina < totalPaginas; pagina++) {
+            exportar(pagina, destinoPagina.apply(pagina));
+        }
+    }
+
+    /**
+     * @param pagina índice da página
+     * @return uma visão das linhas da página na lista de produtos
+     */
+    private List<Produto> linhas(int pagina) {
+        Objects.checkIndex(pagina, getTotalPaginas());
+        final int inicio = pagina * linhasPorPagina;
+        return produtos.subList(inicio, (int) Math.min(produtos.size(), (long) inicio + linhasPorPagina));
+    }
+
+}
@@ -0,0 +1,119 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.List;
+
+/**
+ * Exporta uma lista de produtos gerando as linhas da tabela em paralelo. A
+ * lista é dividida em blocos que são gerados em um
+ * {@link java.util.concurrent.ForkJoinPool} compartilhado (ver
+ * {@link PoolsParalelos}) e depois unidos na ordem original, de modo que o
+ * resultado é idêntico ao de {@link ExportadorListaProduto#exportar(List)}.
+ *
+ * <p>
+ * As colunas do exportador não devem ser alteradas enquanto a exportação
+ * estiver em andamento.</p>
+ *
+ * @author Lidiane
+ */
+public class ExportacaoParalela {
+
+    /**
+     * Quantidade de blocos de linhas gerados por thread. Ter mais blocos que
+     * threads permite que o ForkJoinPool distribua melhor o trabalho quando
+     * alguns blocos demoram mais que outros.
+     */
+    private static final int BLOCOS_POR_THREAD = 4;
+
+    private final AbstractExportadorListaProduto exportador;
+
+    private final int paralelismo;
+
+    /**
+     * Instancia uma exportação paralela.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @param paralelismo quantidade de threads usadas para gerar as linhas
+     * @throws IllegalArgumentException se o exportador não for uma subclasse
+     * de {@link AbstractExportadorListaProduto} ou se o paralelismo não for
+     * maior que zero
+     */
+    public ExportacaoParalela(ExportadorListaProduto exportador, int paralelismo) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("O paralelismo deve ser maior que zero: " + paralelismo);
+        }
+
+        this.exportador = AbstractExportadorListaProduto.exigirSubclasse(exportador);
+        this.paralelismo = paralelismo;
+    }
+
+    public int getParalelismo() {
+        return paralelismo;
+    }
+
+    /**
+     * Exporta a lista de produtos, gerando as linhas da tabela em paralelo.
+     *
+     * @param listaProdutos lista de produtos a ser exportada
+     * @return String contendo o conteúdo da lista de objetos em um formato
+     * específico
+     */
+    public String exportar(List<Produto> listaProdutos) {
+        final OuvinteExportacao ouvinte = exportador.getOuvinte();
+        final long inicio = ouvinte == null ? 0 : System.nanoTime();
+        final int totalBlocos = Math.max(1, Math.min(listaProdutos.size(), paralelismo * BLOCOS_POR_THREAD));
+        final StringBuilder[] blocos = new StringBuilder[totalBlocos];
+        final TotaisTabela[] totaisBlocos = new TotaisTabela[totalBlocos];
+        final CabecalhoTabela cabecalhoTabela = exportador.getCabecalho();
+        PoolsParalelos.obter(paralelismo)
+                .invoke(new GeracaoParalelaLinhas(exportador, cabecalhoTabela, listaProdutos, blocos, totaisBlocos, 0, totalBlocos));
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(cabecalhoTabela.getCabecalho());
+        int tamanho = sb.length() + cabecalhoTabela.getFecharTabela().length();
+        for (StringBuilder bloco : blocos) {
+            tamanho += bloco.length();
+        }
+
+        sb.ensureCapacity(tamanho);
+        for (StringBuilder bloco : blocos) {
+            sb.append(bloco);
+        }
+
+        final TotaisTabela totais = cabecalhoTabela.novosTotais();
+        if (totais != null) {
+            for (TotaisTabela totaisBloco : totaisBlocos) {
+                totais.combinar(totaisBloco);
+            }
+            totais.gerarRodape(sb);
+        }
+        sb.append(cabecalhoTabela.getFecharTabela());
+        if (ouvinte != null) {
+            ouvinte.exportacaoConcluida(exportador, listaProdutos.size(), sb.length(), System.nanoTime() - inicio);
+        }
+        return sb.toString();
+    }
+
+}
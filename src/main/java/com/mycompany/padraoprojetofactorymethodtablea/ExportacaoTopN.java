@@ -0,0 +1,99 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Exporta apenas os N primeiros produtos de uma fonte, segundo uma ordem,
+ * como os 100 produtos com menor estoque. A fonte é percorrida uma única vez,
+ * mantendo apenas os N melhores produtos até o momento em um heap limitado,
+ * sem ordenar a fonte completa. Produtos iguais segundo a ordem aparecem na
+ * ordem em que estão na fonte.
+ *
+ * <p>
+ * Como apenas os produtos selecionados são exportados, por meio de
+ * {@link ExportadorListaProduto#exportar(List)}, qualquer exportador pode ser
+ * usado.</p>
+ *
+ * @author Lidiane
+ */
+public class ExportacaoTopN {
+
+    private final ExportadorListaProduto exportador;
+
+    private final Comparator<? super Produto> ordem;
+
+    private final int limite;
+
+    /**
+     * Instancia uma exportação dos N primeiros produtos.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @param ordem ordem dos produtos na tabela
+     * @param limite quantidade máxima de produtos a serem exportados (N)
+     */
+    public ExportacaoTopN(ExportadorListaProduto exportador, Comparator<? super Produto> ordem, int limite) {
+        if (limite < 0) {
+            throw new IllegalArgumentException("A quantidade de produtos não pode ser negativa: " + limite);
+        }
+
+        this.exportador = Objects.requireNonNull(exportador);
+        this.ordem = Objects.requireNonNull(ordem);
+        this.limite = limite;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    /**
+     * Seleciona e exporta os N primeiros produtos de uma fonte.
+     *
+     * @param produtos fonte de onde os produtos serão selecionados
+     * @return String contendo o conteúdo dos produtos selecionados em um
+     * formato específico
+     */
+    public String exportar(Iterable<Produto> produtos) {
+        return exportador.exportar(SelecaoTopN.selecionar(produtos, ordem, limite));
+    }
+
+    /**
+     * Seleciona e exporta os N primeiros produtos de uma lista, fazendo a
+     * seleção em paralelo: cada thread seleciona os N primeiros de trechos da
+     * lista em seu próprio heap e os heaps são então combinados. O resultado
+     * é o mesmo de {@link #exportar(Iterable)}.
+     *
+     * @param listaProdutos lista de onde os produtos serão selecionados
+     * @param paralelismo quantidade de threads usadas na seleção
+     * @return String contendo o conteúdo dos produtos selecionados em um
+     * formato específico
+     */
+    public String exportarParalelo(List<Produto> listaProdutos, int paralelismo) {
+        return exportador.exportar(SelecaoTopN.selecionarParalelo(listaProdutos, ordem, limite, paralelismo));
+    }
+
+}
@@ -0,0 +1,329 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exporta uma lista de produtos para um formato binário colunar, voltado para
+ * ferramentas de análise que precisam dos valores numéricos sem ter que
+ * interpretar texto. O arquivo gerado pode ser lido, sem cópias, por
+ * {@link LeitorColunarBinario}.
+ *
+ * <p>
+ * As colunas seguem a mesma abstração {@link Coluna} usada pelos demais
+ * exportadores: o tipo de cada coluna no arquivo é o tipo do valor que ela
+ * fornece ({@link TipoValorColuna}). Todos os números são gravados em
+ * little-endian e o arquivo é organizado da seguinte forma:</p>
+ * <ul>
+ * <li>cabeçalho: número mágico {@link #MAGICO}, versão, número de colunas e
+ * número de linhas (int);</li>
+ * <li>esquema: para cada coluna, o tipo (1 byte, o ordinal de
+ * {@link TipoValorColuna}), o tamanho do título em bytes (int) e o título em
+ * UTF-8;</li>
+ * <li>dados: para cada coluna, um bloco contíguo iniciado em uma posição
+ * múltipla de 8 bytes, contendo os valores int ou long de todas as linhas
+ * ou, para textos, os deslocamentos de início de cada valor (int, um a mais
+ * que o número de linhas) seguidos pelos bytes UTF-8 de todos os valores.
+ * Textos não definidos (null) são gravados como textos vazios.</li>
+ * </ul>
+ *
+ * @author Lidiane
+ */
+public final class ExportadorColunarBinario {
+
+    /**
+     * Número mágico que identifica o formato, correspondente aos bytes
+     * "PRDC" gravados em little-endian.
+     */
+    static final int MAGICO = 0x43445250;
+
+    static final int VERSAO = 1;
+
+    /**
+     * Alinhamento, em bytes, do início do bloco de dados de cada coluna.
+     */
+    static final int ALINHAMENTO = 8;
+
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    private final List<AbstractColuna> colunas = new ArrayList<>();
+
+    /**
+     * Instancia um exportador com as mesmas colunas padrão dos exportadores
+     * de texto: código, descrição, marca, modelo e estoque.
+     */
+    public ExportadorColunarBinario() {
+        addColuna(newColunaInt(Produto::getId, "Código"));
+        addColuna(newColuna(Produto::getDescricao, "Descrição"));
+        addColuna(newColuna(Produto::getMarca, "Marca"));
+        addColuna(newColuna(Produto::getModelo, "Modelo"));
+        addColuna(newColunaInt(Produto::getEstoque, "Estoque"));
+    }
+
+    /**
+     * Instancia um exportador com as mesmas colunas de um exportador de texto,
+     * permitindo gerar o arquivo binário a partir de uma tabela já
+     * configurada.
+     *
+     * @param exportador exportador de onde as colunas serão copiadas
+     */
+    public ExportadorColunarBinario(ExportadorListaProduto exportador) {
+        if (!(exportador instanceof AbstractExportadorListaProduto)) {
+            throw new IllegalArgumentException("Exportador não suportado: " + exportador.getClass().getName());
+        }
+
+        for (Coluna coluna : ((AbstractExportadorListaProduto) exportador).getColunas()) {
+            addColuna(coluna);
+        }
+    }
+
+    public Coluna newColuna(Function<Produto, Object> obtemValorColuna, String titulo) {
+        return new ColunaBinaria(obtemValorColuna, titulo);
+    }
+
+    public Coluna newColunaInt(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        return new ColunaBinaria(obtemValorColuna, titulo);
+    }
+
+    public Coluna newColunaLong(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        return new ColunaBinaria(obtemValorColuna, titulo);
+    }
+
+    /**
+     * Adiciona uma coluna ao arquivo. A coluna deve estender
+     * {@link AbstractColuna}, que informa o tipo dos seus valores.
+     *
+     * @param coluna coluna a ser adicionada
+     */
+    public void addColuna(Coluna coluna) {
+        if (!(coluna instanceof AbstractColuna)) {
+            throw new IllegalArgumentException("Coluna não suportada: " + coluna.getClass().getName());
+        }
+        colunas.add((AbstractColuna) coluna);
+    }
+
+    /**
+     * Exporta uma lista de produtos para um arquivo, substituindo o seu
+     * conteúdo caso ele já exista.
+     *
+     * @param produtos lista de produtos a ser exportada
+     * @param arquivo caminho do arquivo a ser gravado
+     * @throws IOException se ocorrer um erro ao gravar o arquivo
+     */
+    public void exportar(List<Produto> produtos, Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            exportar(produtos, canal);
+        }
+    }
+
+    /**
+     * Exporta uma lista de produtos para um canal, que não é fechado. Como o
+     * arquivo é organizado por colunas, a lista é percorrida uma vez para
+     * cada coluna. Os valores de uma coluna de texto são mantidos em memória
+     * apenas enquanto o seu bloco é gravado, pois os deslocamentos precisam
+     * ser gravados antes dos bytes.
+     *
+     * @param produtos lista de produtos a ser exportada
+     * @param canal canal onde o arquivo será gravado
+     * @throws IOException se ocorrer um erro ao gravar no canal
+     */
+    public void exportar(List<Produto> produtos, WritableByteChannel canal) throws IOException {
+        final AbstractColuna[] colunasArquivo = colunas.toArray(new AbstractColuna[0]);
+        final int linhas = produtos.size();
+        final SaidaBinaria saida = new SaidaBinaria(canal);
+
+        saida.putInt(MAGICO);
+        saida.putInt(VERSAO);
+        saida.putInt(colunasArquivo.length);
+        saida.putInt(linhas);
+        for (AbstractColuna coluna : colunasArquivo) {
+            final byte[] titulo = coluna.getTitulo().getBytes(StandardCharsets.UTF_8);
+            saida.put((byte) coluna.getTipoValor().ordinal());
+            saida.putInt(titulo.length);
+            saida.put(titulo);
+        }
+
+        final CharSequence[] textos = new CharSequence[linhas];
+        final SaidaUtf8 saidaTexto = new SaidaUtf8(canal);
+        try {
+            for (AbstractColuna coluna : colunasArquivo) {
+                saida.alinhar();
+                switch (coluna.getTipoValor()) {
+                    case INT:
+                        for (Produto produto : produtos) {
+                            saida.putInt(coluna.obterInt(produto));
+                        }
+                        break;
+                    case LONG:
+                        for (Produto produto : produtos) {
+                            saida.putLong(coluna.obterLong(produto));
+                        }
+                        break;
+                    default:
+                        exportarTextos(coluna, produtos, textos, saida, saidaTexto);
+                }
+            }
+        } finally {
+            saidaTexto.liberar();
+        }
+        saida.alinhar();
+        saida.descarregar();
+    }
+
+    /**
+     * Grava o bloco de uma coluna de texto: os deslocamentos de cada valor,
+     * calculados sem codificar os textos, e então os bytes UTF-8, codificados
+     * diretamente no buffer de saída, sem criar vetores de bytes por valor.
+     * Ao final, a quantidade de bytes gravados é conferida com o último
+     * deslocamento.
+     *
+     * @throws IllegalStateException se os bytes gravados não corresponderem
+     * aos deslocamentos, como quando um texto é alterado durante a exportação
+     */
+    private static void exportarTextos(AbstractColuna coluna, List<Produto> produtos, CharSequence[] textos,
+            SaidaBinaria saida, SaidaUtf8 saidaTexto) throws IOException {
+        long deslocamento = 0;
+        saida.putInt(0);
+        int i = 0;
+        for (Produto produto : produtos) {
+            final CharSequence texto = coluna.obterTexto(produto);
+            textos[i++] = texto;
+            if (texto != null) {
+                deslocamento += SaidaUtf8.tamanhoUtf8(texto);
+            }
+            if (deslocamento > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Os textos da coluna " + coluna.getTitulo() + " excedem 2 GiB");
+            }
+            saida.putInt((int) deslocamento);
+        }
+
+        saida.descarregar();
+        final long bytesAnteriores = saidaTexto.getBytesEscritos();
+        for (int j = 0; j < i; j++) {
+            if (textos[j] != null) {
+                /* Cada valor é concluído separadamente, para que um surrogate
+                 * no final de um valor não seja combinado com o início do
+                 * próximo, o que tornaria os deslocamentos inválidos. */
+                saidaTexto.append(textos[j]);
+                saidaTexto.concluirTexto();
+                textos[j] = null;
+            }
+        }
+        saidaTexto.descarregar();
+        final long bytesTextos = saidaTexto.getBytesEscritos() - bytesAnteriores;
+        if (bytesTextos != deslocamento) {
+            throw new IllegalStateException("Os textos da coluna " + coluna.getTitulo() + " ocupam " + bytesTextos
+                    + " bytes, mas os deslocamentos indicam " + deslocamento + " bytes");
+        }
+        saida.avancar(deslocamento);
+    }
+
+    /**
+     * Buffer para gravação de valores binários em little-endian em um canal,
+     * que mantém a posição atual no arquivo para o alinhamento dos blocos.
+     */
+    private static final class SaidaBinaria {
+
+        private final WritableByteChannel canal;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+
+        private long posicao;
+
+        SaidaBinaria(WritableByteChannel canal) {
+            this.canal = canal;
+        }
+
+        void put(byte valor) throws IOException {
+            garantirEspaco(Byte.BYTES);
+            buffer.put(valor);
+            posicao++;
+        }
+
+        void putInt(int valor) throws IOException {
+            garantirEspaco(Integer.BYTES);
+            buffer.putInt(valor);
+            posicao += Integer.BYTES;
+        }
+
+        void putLong(long valor) throws IOException {
+            garantirEspaco(Long.BYTES);
+            buffer.putLong(valor);
+            posicao += Long.BYTES;
+        }
+
+        void put(byte[] valores) throws IOException {
+            for (byte valor : valores) {
+                put(valor);
+            }
+        }
+
+        /**
+         * Grava bytes zero até que a posição atual seja múltipla de
+         * {@link #ALINHAMENTO}.
+         */
+        void alinhar() throws IOException {
+            while (posicao % ALINHAMENTO != 0) {
+                put((byte) 0);
+            }
+        }
+
+        /**
+         * Registra bytes gravados diretamente no canal, depois de
+         * {@link #descarregar()}, por outro objeto.
+         */
+        void avancar(long bytes) {
+            posicao += bytes;
+        }
+
+        private void garantirEspaco(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                descarregar();
+            }
+        }
+
+        void descarregar() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+}
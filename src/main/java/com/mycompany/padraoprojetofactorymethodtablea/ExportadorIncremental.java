@@ -0,0 +1,248 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exporta repetidamente o mesmo catálogo de produtos, gerando novamente apenas
+ * as linhas dos produtos que foram alterados desde a exportação anterior. A
+ * linha gerada para cada produto fica armazenada em cache, identificada pelo
+ * id do produto, junto com a versão do produto ({@link Produto#getVersao()})
+ * no momento em que a linha foi gerada. Se a versão mudar, a linha é gerada
+ * novamente.
+ *
+ * <p>
+ * O cache tem um limite de memória, medido em caracteres. Quando ele é
+ * excedido, as linhas usadas há mais tempo são descartadas (LRU). O resultado
+ * é sempre idêntico ao de {@link ExportadorListaProduto#exportar(List)} no
+ * exportador informado. Se as colunas do exportador mudarem, o cache é
+ * descartado por completo.</p>
+ *
+ * <p>
+ * Os métodos desta classe são sincronizados, de modo que um mesmo objeto pode
+ * ser compartilhado entre threads, mas as exportações são feitas uma por
+ * vez.</p>
+ *
+ * <p>
+ * Se o exportador possuir um {@link OuvinteExportacao}, ele é notificado da
+ * conclusão de cada exportação, incluindo as linhas obtidas do cache. As
+ * colunas não são medidas, pois a maioria das linhas não é gerada
+ * novamente.</p>
+ *
+ * @author Lidiane
+ */
+public class ExportadorIncremental {
+
+    private final AbstractExportadorListaProduto exportador;
+
+    private final long limiteCaracteres;
+
+    /**
+     * Linhas geradas, indexadas pelo id do produto e mantidas na ordem do
+     * último acesso, de modo que a primeira é a usada há mais tempo.
+     */
+    private final Map<Integer, LinhaCache> linhas = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long caracteresEmCache;
+
+    /**
+     * Trechos fixos da tabela usados para gerar as linhas em cache.
+     */
+    private CabecalhoTabela cabecalho;
+
+    /**
+     * Instancia um exportador incremental.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @param limiteCaracteres quantidade máxima de caracteres das linhas
+     * mantidas em cache
+     */
+    public ExportadorIncremental(ExportadorListaProduto exportador, long limiteCaracteres) {
+        if (limiteCaracteres < 0) {
+            throw new IllegalArgumentException("O limite do cache não pode ser negativo: " + limiteCaracteres);
+        }
+
+        this.exportador = AbstractExportadorListaProduto.exigirSubclasse(exportador);
+        this.limiteCaracteres = limiteCaracteres;
+    }
+
+    /**
+     * Exporta os produtos, gerando apenas as linhas que não estão em cache ou
+     * cujos produtos foram alterados.
+     *
+     * @param produtos produtos a serem exportados
+     * @return String contendo a tabela gerada
+     */
+    public String exportar(Iterable<Produto> produtos) {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            exportar(produtos, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Exporta os produtos para um destino, gerando apenas as linhas que não
+     * estão em cache ou cujos produtos foram alterados.
+     *
+     * @param produtos produtos a serem exportados
+     * @param destino onde a tabela será escrita
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    public synchronized void exportar(Iterable<Produto> produtos, Appendable destino) throws IOException {
+        final CabecalhoTabela cabecalhoAtual = exportador.getCabecalho();
+        if (cabecalhoAtual != cabecalho) {
+            limpar();
+            cabecalho = cabecalhoAtual;
+        }
+
+        final OuvinteExportacao ouvinte = exportador.getOuvinte();
+        final long inicio = ouvinte == null ? 0 : System.nanoTime();
+        long linhasExportadas = 0;
+        long caracteres = cabecalhoAtual.getCabecalho().length() + cabecalhoAtual.getFecharTabela().length();
+
+        destino.append(cabecalhoAtual.getCabecalho());
+        final TotaisTabela totais = cabecalhoAtual.novosTotais();
+        final StringBuilder linha = new StringBuilder();
+        final Iterator<Produto> iterator = produtos.iterator();
+        while (iterator.hasNext()) {
+            final Produto produto = iterator.next();
+            if (totais != null) {
+                totais.acumular(produto);
+            }
+            final String linhaProduto = obterLinha(cabecalhoAtual, produto, linha);
+            destino.append(linhaProduto);
+            caracteres += linhaProduto.length();
+            linhasExportadas++;
+        }
+
+        if (totais != null) {
+            /* O rodapé depende de todos os produtos, logo não é guardado. */
+            linha.setLength(0);
+            totais.gerarRodape(linha);
+            destino.append(linha);
+            caracteres += linha.length();
+        }
+        destino.append(cabecalhoAtual.getFecharTabela());
+
+        if (ouvinte != null) {
+            ouvinte.exportacaoConcluida(exportador, linhasExportadas, caracteres, System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Obtém a linha de um produto do cache, gerando-a se ela não existir ou se
+     * o produto foi alterado.
+     *
+     * @param cabecalhoAtual trechos fixos da tabela sendo exportada
+     * @param produto produto cuja linha deve ser obtida
+     * @param buffer buffer usado para gerar a linha
+     * @return a linha do produto
+     */
+    private String obterLinha(CabecalhoTabela cabecalhoAtual, Produto produto, StringBuilder buffer) {
+        /* A versão é lida antes de gerar a linha: se o produto for alterado
+         * por outra thread durante a geração, a linha fica com a versão
+         * anterior e é gerada novamente na próxima exportação. */
+        final int versao = produto.getVersao();
+        final Integer id = produto.getId();
+        final LinhaCache existente = linhas.get(id);
+        if (existente != null && existente.produto == produto && existente.versao == versao) {
+            return existente.linha;
+        }
+
+        buffer.setLength(0);
+        exportador.gerarColunasLinha(cabecalhoAtual, produto, buffer);
+        final String linha = buffer.toString();
+
+        final LinhaCache anterior = linhas.put(id, new LinhaCache(produto, versao, linha));
+        if (anterior != null) {
+            caracteresEmCache -= anterior.linha.length();
+        }
+        caracteresEmCache += linha.length();
+        removerExcedentes();
+        return linha;
+    }
+
+    /**
+     * Remove as linhas usadas há mais tempo até que o cache respeite o limite
+     * de memória.
+     */
+    private void removerExcedentes() {
+        final Iterator<LinhaCache> iterator = linhas.values().iterator();
+        while (caracteresEmCache > limiteCaracteres && iterator.hasNext()) {
+            caracteresEmCache -= iterator.next().linha.length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Descarta todas as linhas em cache.
+     */
+    public synchronized void limpar() {
+        linhas.clear();
+        caracteresEmCache = 0;
+    }
+
+    /**
+     * @return a quantidade de linhas em cache
+     */
+    public synchronized int getLinhasEmCache() {
+        return linhas.size();
+    }
+
+    /**
+     * @return a quantidade de caracteres das linhas em cache
+     */
+    public synchronized long getCaracteresEmCache() {
+        return caracteresEmCache;
+    }
+
+    /**
+     * Linha gerada para um produto, junto com a versão do produto no momento
+     * em que ela foi gerada.
+     */
+    private static final class LinhaCache {
+
+        private final Produto produto;
+
+        private final int versao;
+
+        private final String linha;
+
+        private LinhaCache(Produto produto, int versao, String linha) {
+            this.produto = produto;
+            this.versao = versao;
+            this.linha = linha;
+        }
+    }
+
+}
@@ -23,8 +23,15 @@
  */
 package com.mycompany.padraoprojetofactorymethodtablea;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  *
@@ -84,6 +91,44 @@ public interface ExportadorListaProduto {
      */
     String fecharLinhaTitulos();
 
+    /**
+     * Retorna o código inserido entre duas colunas de uma mesma linha em um
+     * formato de dados específico, como a vírgula em CSV. Por padrão, não há
+     * separador, pois a maioria dos formatos delimita cada coluna por meio de
+     * {@link Coluna#abrir()} e {@link Coluna#fechar()}.
+     *
+     * @return
+     */
+    default String separadorColunas() {
+        return "";
+    }
+
+    /**
+     * Retorna o código para abertura de uma linha de grupo de uma exportação
+     * agrupada, que antecede o título e a chave do grupo. Por padrão, a linha
+     * de grupo é aberta como uma linha comum.
+     *
+     * @param nivel nível do grupo, sendo 0 o mais externo
+     * @param totalColunas quantidade de colunas da tabela
+     * @return
+     */
+    default String abrirLinhaGrupo(int nivel, int totalColunas) {
+        return abrirLinha();
+    }
+
+    /**
+     * Retorna o código para fechamento de uma linha de grupo de uma
+     * exportação agrupada. Por padrão, a linha de grupo é fechada como uma
+     * linha comum.
+     *
+     * @param nivel nível do grupo, sendo 0 o mais externo
+     * @param totalColunas quantidade de colunas da tabela
+     * @return
+     */
+    default String fecharLinhaGrupo(int nivel, int totalColunas) {
+        return fecharLinha();
+    }
+
     /**
      * Inicia a exportação da lista de objetos para um formato específico.
      *
@@ -93,8 +138,109 @@ public interface ExportadorListaProduto {
      */
     String exportar(List<Produto> listaProdutos);
 
+    /**
+     * Exporta os produtos para um formato específico, escrevendo cada linha da
+     * tabela no destino assim que ela é gerada. Diferente de
+     * {@link #exportar(List)}, a tabela completa nunca fica em memória, o que
+     * permite exportar listas com milhões de produtos usando memória constante.
+     *
+     * <p>
+     * A implementação padrão gera a tabela completa por meio de
+     * {@link #exportar(List)} e então a escreve no destino. Os exportadores
+     * deste pacote sobrescrevem este método para gerar a tabela em fluxo.</p>
+     *
+     * @param produtos produtos a serem exportados
+     * @param destino onde a tabela será escrita, como um {@link Writer} ou
+     * {@link StringBuilder}
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    default void exportar(Iterable<Produto> produtos, Appendable destino) throws IOException {
+        final List<Produto> listaProdutos = new ArrayList<>();
+        produtos.forEach(listaProdutos::add);
+        destino.append(exportar(listaProdutos));
+    }
+
+    /**
+     * Exporta os produtos obtidos de um {@link Iterator} para um formato
+     * específico, escrevendo cada linha da tabela no {@link Writer} assim que
+     * ela é gerada. Ao final, o Writer é descarregado (flush), mas não é
+     * fechado.
+     *
+     * @param produtos iterador que fornece os produtos a serem exportados
+     * @param destino onde a tabela será escrita
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    default void exportar(Iterator<Produto> produtos, Writer destino) throws IOException {
+        exportar(() -> produtos, destino);
+        destino.flush();
+    }
+
     Coluna newColuna(Function<Produto, Object> obtemValorColuna, String titulo);
 
+    /**
+     * Cria uma coluna cujo valor int é obtido a partir de uma função. O valor
+     * é escrito diretamente na tabela, sem ser convertido para
+     * {@link Integer} ou para uma String temporária.
+     *
+     * <p>
+     * A implementação padrão apenas converte o valor para {@link Integer} e
+     * chama {@link #newColuna(Function, String)}. Os exportadores deste pacote
+     * sobrescrevem este método para evitar tal conversão.</p>
+     *
+     * @param obtemValorColuna função que recebe um produto e retorna o valor
+     * int a ser exibido na coluna
+     * @param titulo título a ser exibido na coluna
+     * @return a coluna criada
+     */
+    default Coluna newColunaInt(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        return newColuna(produto -> obtemValorColuna.applyAsInt(produto), titulo);
+    }
+
+    /**
+     * Cria uma coluna cujo valor long é obtido a partir de uma função. O
+     * valor é escrito diretamente na tabela, sem ser convertido para
+     * {@link Long} ou para uma String temporária.
+     *
+     * @param obtemValorColuna função que recebe um produto e retorna o valor
+     * long a ser exibido na coluna
+     * @param titulo título a ser exibido na coluna
+     * @return a coluna criada
+     * @see #newColunaInt(ToIntFunction, String)
+     */
+    default Coluna newColunaLong(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        return newColuna(produto -> obtemValorColuna.applyAsLong(produto), titulo);
+    }
+
+    /**
+     * Cria uma coluna cujo valor será obtido a partir de um campo (atributo)
+     * de {@link Produto}, tendo o nome do campo como título. O acesso ao campo
+     * é compilado na criação da coluna, de modo que ela tem o mesmo desempenho
+     * de uma coluna criada com uma referência de método como
+     * {@code Produto::getId}.
+     *
+     * @param campo campo (atributo) de {@link Produto} a ser exibido na coluna
+     * @return a coluna criada
+     */
+    Coluna newColuna(Field campo);
+
+    /**
+     * Cria uma coluna cujo valor será obtido a partir do campo (atributo) de
+     * {@link Produto} com o nome informado.
+     *
+     * @param nomeCampo nome do campo a ser exibido na coluna
+     * @return a coluna criada
+     * @throws IllegalArgumentException se {@link Produto} não possuir um campo
+     * com o nome informado
+     * @see #newColuna(Field)
+     */
+    default Coluna newColuna(String nomeCampo) {
+        try {
+            return newColuna(Produto.class.getDeclaredField(nomeCampo));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("Campo não encontrado em Produto: " + nomeCampo, e);
+        }
+    }
+
     /**
      * Adiciona uma coluna à tabela.
      *
@@ -111,9 +257,20 @@ public interface ExportadorListaProduto {
         return newInstance("html");
     }
 
+    /**
+     * Cria uma cópia deste exportador, com as mesmas colunas, que pode ser
+     * personalizada (por exemplo, por meio de {@link #addColuna(Coluna)}) sem
+     * afetar o exportador original.
+     *
+     * @return a cópia do exportador
+     */
+    ExportadorListaProduto copiar();
+
     /**
      * Cria uma instância de uma classe que realiza a exportação de dados para
-     * um formato definido.
+     * um formato definido. A instância é uma cópia do protótipo do formato
+     * ({@link #prototipo(String)}), logo compartilha com ele as colunas padrão
+     * e o cabeçalho já gerado, sem precisar criá-los novamente.
      *
      * 
      * @param extensaoArquivoExportacao extensão de arquivo que indica o formato
@@ -121,14 +278,21 @@ public interface ExportadorListaProduto {
      * @return
      */
     static ExportadorListaProduto newInstance(String extensaoArquivoExportacao) {
-        if (extensaoArquivoExportacao.equals("html")) {
-            return new ExportadorListaProdutosHtml();
-
-        } else if (extensaoArquivoExportacao.equals("md")) {
-            return new ExportadorListaProdutosMarkdown();
-
-        }
-        throw new UnsupportedOperationException("Formato de arquivo não suportado: " + extensaoArquivoExportacao);
+        return prototipo(extensaoArquivoExportacao).copiar();
+    }
 
+    /**
+     * Obtém o protótipo do exportador de um formato definido. O protótipo é
+     * criado uma única vez e compartilhado por toda a aplicação, podendo ser
+     * usado por várias threads ao mesmo tempo. Ele não pode ser alterado:
+     * para personalizar as colunas, use {@link #copiar()} ou
+     * {@link #newInstance(String)}.
+     *
+     * @param extensaoArquivoExportacao extensão de arquivo que indica o formato
+     * para converter os dados, como html, csv, md (markdown), etc.
+     * @return o protótipo do exportador do formato
+     */
+    static ExportadorListaProduto prototipo(String extensaoArquivoExportacao) {
+        return PrototiposExportador.obter(extensaoArquivoExportacao);
     }
 }
@@ -0,0 +1,104 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exporta dados de uma lista de objetos para o formato CSV, com uma linha
+ * por produto e as colunas separadas por vírgula. A primeira linha contém
+ * os títulos das colunas.
+ *
+ * @author Lidiane
+ */
+class ExportadorListaProdutosCsv extends AbstractExportadorListaProduto {
+
+    @Override
+    public String abrirTabela() {
+        return "";
+    }
+
+    @Override
+    public String fecharTabela() {
+        return "";
+    }
+
+    @Override
+    public String abrirLinha() {
+        return "";
+    }
+
+    @Override
+    public String fecharLinha() {
+        return "";
+    }
+
+    @Override
+    public String fecharLinhaTitulos() {
+        return "";
+    }
+
+    @Override
+    public String separadorColunas() {
+        return ",";
+    }
+
+    /**
+     * A linha de grupo traz o título e a chave do grupo na primeira coluna,
+     * deixando as outras colunas vazias.
+     */
+    @Override
+    public String abrirLinhaGrupo(int nivel, int totalColunas) {
+        return "";
+    }
+
+    @Override
+    public String fecharLinhaGrupo(int nivel, int totalColunas) {
+        return ",".repeat(Math.max(0, totalColunas - 1));
+    }
+
+    @Override
+    public Coluna newColuna(Function<Produto, Object> obtemValorColuna, String titulo) {
+        return new ColunaCsv(obtemValorColuna, titulo);
+    }
+
+    @Override
+    public Coluna newColunaInt(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        return new ColunaCsv(obtemValorColuna, titulo);
+    }
+
+    @Override
+    public Coluna newColunaLong(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        return new ColunaCsv(obtemValorColuna, titulo);
+    }
+
+    @Override
+    public Coluna newColuna(Field campo) {
+        return new ColunaCsv(campo);
+    }
+
+}
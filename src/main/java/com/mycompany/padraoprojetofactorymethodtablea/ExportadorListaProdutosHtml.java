@@ -23,7 +23,10 @@
  */
 package com.mycompany.padraoprojetofactorymethodtablea;
 
+import java.lang.reflect.Field;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  *
@@ -61,9 +64,39 @@ class ExportadorListaProdutosHtml extends AbstractExportadorListaProduto {
         return "";
     }
 
+    /**
+     * A linha de grupo é uma única célula de título ocupando todas as
+     * colunas, com uma classe que indica o nível do grupo (grupo-1 para o
+     * mais externo), para que cada nível possa ser estilizado.
+     */
+    @Override
+    public String abrirLinhaGrupo(int nivel, int totalColunas) {
+        return "  <tr class=\"grupo-" + (nivel + 1) + "\"><th colspan=\"" + Math.max(1, totalColunas) + "\">";
+    }
+
+    @Override
+    public String fecharLinhaGrupo(int nivel, int totalColunas) {
+        return "</th></tr>";
+    }
+
     @Override
     public Coluna newColuna(Function<Produto, Object> obtemValorColuna, String titulo) {
         return new ColunaHtml(obtemValorColuna, titulo);
     }
 
+    @Override
+    public Coluna newColunaInt(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        return new ColunaHtml(obtemValorColuna, titulo);
+    }
+
+    @Override
+    public Coluna newColunaLong(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        return new ColunaHtml(obtemValorColuna, titulo);
+    }
+
+    @Override
+    public Coluna newColuna(Field campo) {
+        return new ColunaHtml(campo);
+    }
+
 }
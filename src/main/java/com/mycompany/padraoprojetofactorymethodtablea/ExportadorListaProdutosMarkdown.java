@@ -23,7 +23,10 @@
  */
 package com.mycompany.padraoprojetofactorymethodtablea;
 
+import java.lang.reflect.Field;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  *
@@ -61,16 +64,46 @@ public class ExportadorListaProdutosMarkdown extends AbstractExportadorListaProd
         StringBuilder builder = new StringBuilder();
 
         for (Coluna coluna : getColunas()) {
-            builder.append(coluna.abrir() + "-----");
+            builder.append(coluna.abrir()).append("-----");
         }
         builder.append("\n");
         return builder.toString();
     }
 
+    /**
+     * A linha de grupo traz o título e a chave do grupo na primeira coluna,
+     * em negrito para o nível mais externo e em itálico para os demais,
+     * deixando as outras colunas vazias.
+     */
+    @Override
+    public String abrirLinhaGrupo(int nivel, int totalColunas) {
+        return nivel == 0 ? " | **" : " | *";
+    }
+
+    @Override
+    public String fecharLinhaGrupo(int nivel, int totalColunas) {
+        return (nivel == 0 ? "**" : "*") + " | ".repeat(Math.max(0, totalColunas - 1)) + fecharLinha();
+    }
+
     @Override
     public Coluna newColuna(Function<Produto, Object> obtemValorColuna, String titulo) {
         return new ColunaMarkdown(obtemValorColuna, titulo);
 
     }
 
+    @Override
+    public Coluna newColunaInt(ToIntFunction<Produto> obtemValorColuna, String titulo) {
+        return new ColunaMarkdown(obtemValorColuna, titulo);
+    }
+
+    @Override
+    public Coluna newColunaLong(ToLongFunction<Produto> obtemValorColuna, String titulo) {
+        return new ColunaMarkdown(obtemValorColuna, titulo);
+    }
+
+    @Override
+    public Coluna newColuna(Field campo) {
+        return new ColunaMarkdown(campo);
+    }
+
 }
@@ -0,0 +1,141 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Filtro aplicado aos produtos de um {@link CatalogoIndexado}. Os critérios de
+ * marca e de faixa de estoque são resolvidos pelos índices do catálogo, sem
+ * percorrer todos os produtos; um critério adicional qualquer pode ser
+ * informado por meio de {@link #onde(Predicate)}, sendo avaliado apenas para
+ * os produtos que atendem aos demais critérios.
+ *
+ * <p>
+ * Os objetos desta classe são imutáveis: cada método retorna um novo filtro
+ * que acrescenta um critério aos já existentes, como em
+ * {@code FiltroProduto.todos().marca("LG").estoqueMinimo(10)}.</p>
+ *
+ * @author Lidiane
+ */
+public final class FiltroProduto {
+
+    private static final FiltroProduto TODOS = new FiltroProduto(null, Integer.MIN_VALUE, Integer.MAX_VALUE, null);
+
+    private final String marca;
+
+    private final int estoqueMinimo;
+
+    private final int estoqueMaximo;
+
+    private final Predicate<Produto> condicao;
+
+    private FiltroProduto(String marca, int estoqueMinimo, int estoqueMaximo, Predicate<Produto> condicao) {
+        this.marca = marca;
+        this.estoqueMinimo = estoqueMinimo;
+        this.estoqueMaximo = estoqueMaximo;
+        this.condicao = condicao;
+    }
+
+    /**
+     * @return um filtro que aceita todos os produtos
+     */
+    public static FiltroProduto todos() {
+        return TODOS;
+    }
+
+    /**
+     * @param marca marca que os produtos devem ter
+     * @return um novo filtro que também exige a marca informada
+     */
+    public FiltroProduto marca(String marca) {
+        return new FiltroProduto(Objects.requireNonNull(marca), estoqueMinimo, estoqueMaximo, condicao);
+    }
+
+    /**
+     * @param estoqueMinimo menor estoque aceito, inclusive
+     * @return um novo filtro que também exige o estoque mínimo informado
+     */
+    public FiltroProduto estoqueMinimo(int estoqueMinimo) {
+        return new FiltroProduto(marca, Math.max(this.estoqueMinimo, estoqueMinimo), estoqueMaximo, condicao);
+    }
+
+    /**
+     * @param estoqueMaximo maior estoque aceito, inclusive
+     * @return um novo filtro que também exige o estoque máximo informado
+     */
+    public FiltroProduto estoqueMaximo(int estoqueMaximo) {
+        return new FiltroProduto(marca, estoqueMinimo, Math.min(this.estoqueMaximo, estoqueMaximo), condicao);
+    }
+
+    /**
+     * @param condicao condição adicional que os produtos devem atender
+     * @return um novo filtro que também exige a condição informada
+     */
+    public FiltroProduto onde(Predicate<Produto> condicao) {
+        Objects.requireNonNull(condicao);
+        return new FiltroProduto(marca, estoqueMinimo, estoqueMaximo,
+                this.condicao == null ? condicao : this.condicao.and(condicao));
+    }
+
+    /**
+     * @return a marca exigida ou null se o filtro não exigir uma marca
+     */
+    String getMarca() {
+        return marca;
+    }
+
+    int getEstoqueMinimo() {
+        return estoqueMinimo;
+    }
+
+    int getEstoqueMaximo() {
+        return estoqueMaximo;
+    }
+
+    /**
+     * @return true se o filtro restringir a faixa de estoque
+     */
+    boolean isFiltraEstoque() {
+        return estoqueMinimo != Integer.MIN_VALUE || estoqueMaximo != Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param estoque estoque de um produto
+     * @return true se o estoque estiver na faixa aceita pelo filtro
+     */
+    boolean aceitaEstoque(int estoque) {
+        return estoque >= estoqueMinimo && estoque <= estoqueMaximo;
+    }
+
+    /**
+     * @param produto produto a ser verificado
+     * @return true se o produto atender à condição adicional, caso exista
+     */
+    boolean aceitaCondicao(Produto produto) {
+        return condicao == null || condicao.test(produto);
+    }
+
+}
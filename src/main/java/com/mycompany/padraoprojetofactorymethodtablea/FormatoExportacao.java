@@ -0,0 +1,63 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+/**
+ * Representa um formato de exportação que pode ser obtido por
+ * {@link ExportadorListaProduto#newInstance(String)}. Os formatos são
+ * descobertos por meio de {@link java.util.ServiceLoader}: para registrar um
+ * novo formato, basta incluir o nome completo da classe que implementa esta
+ * interface no arquivo
+ * {@code META-INF/services/com.mycompany.padraoprojetofactorymethodtablea.FormatoExportacao}
+ * do seu módulo, sem alterar este projeto.
+ *
+ * <p>
+ * As implementações devem ser leves e possuir um construtor público sem
+ * parâmetros. A classe do exportador só deve ser referenciada dentro de
+ * {@link #newExportador()}, para que ela só seja carregada se o formato for
+ * de fato utilizado.</p>
+ *
+ * @author Lidiane
+ */
+public interface FormatoExportacao {
+
+    /**
+     * Obtém a extensão de arquivo que identifica o formato, como html ou md.
+     * Letras maiúsculas e um ponto inicial são ignorados.
+     *
+     * @return a extensão de arquivo do formato
+     */
+    String getExtensao();
+
+    /**
+     * Cria um novo exportador para o formato. Este método é chamado apenas
+     * uma vez por formato, para criar o protótipo a partir do qual os
+     * exportadores são copiados.
+     *
+     * @return um novo exportador para o formato
+     * @see ExportadorListaProduto#prototipo(String)
+     */
+    ExportadorListaProduto newExportador();
+
+}
@@ -0,0 +1,123 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Tarefa que gera, em paralelo, as linhas de um intervalo de blocos de uma
+ * lista de produtos. Cada bloco é um trecho contíguo da lista, gerado em seu
+ * próprio {@link StringBuilder}, para que os blocos possam depois ser unidos
+ * na ordem original. Se a tabela possuir agregações, cada bloco também
+ * acumula as agregações dos seus produtos, para que sejam depois combinadas.
+ * As tarefas são apenas executadas pelo pool, nunca serializadas.
+ *
+ * @author Lidiane
+ * @see ExportacaoParalela
+ */
+@SuppressWarnings("serial")
+class GeracaoParalelaLinhas extends RecursiveAction {
+
+    private final AbstractExportadorListaProduto exportador;
+
+    private final CabecalhoTabela cabecalho;
+
+    private final List<Produto> produtos;
+
+    /**
+     * Vetor compartilhado entre todas as tarefas, onde cada uma armazena os
+     * blocos que gerou.
+     */
+    private final StringBuilder[] blocos;
+
+    /**
+     * Vetor compartilhado entre todas as tarefas, onde cada uma armazena os
+     * totais das agregações dos blocos que gerou (ou null se a tabela não
+     * possuir agregações).
+     */
+    private final TotaisTabela[] totaisBlocos;
+
+    private final int primeiroBloco;
+
+    private final int fimBlocos;
+
+    /**
+     * Instancia uma tarefa para gerar os blocos de {@code primeiroBloco}
+     * (inclusive) até {@code fimBlocos} (exclusive).
+     *
+     * @param exportador exportador que define o formato das linhas
+     * @param cabecalho trechos fixos da tabela sendo exportada
+     * @param produtos lista completa de produtos sendo exportada
+     * @param blocos vetor onde os blocos gerados serão armazenados
+     * @param totaisBlocos vetor onde os totais de cada bloco serão armazenados
+     * @param primeiroBloco índice do primeiro bloco a ser gerado
+     * @param fimBlocos índice após o último bloco a ser gerado
+     */
+    GeracaoParalelaLinhas(AbstractExportadorListaProduto exportador, CabecalhoTabela cabecalho, List<Produto> produtos, StringBuilder[] blocos, TotaisTabela[] totaisBlocos, int primeiroBloco, int fimBlocos) {
+        this.exportador = exportador;
+        this.cabecalho = cabecalho;
+        this.produtos = produtos;
+        this.blocos = blocos;
+        this.totaisBlocos = totaisBlocos;
+        this.primeiroBloco = primeiroBloco;
+        this.fimBlocos = fimBlocos;
+    }
+
+    @Override
+    protected void compute() {
+        if (fimBlocos - primeiroBloco > 1) {
+            final int meio = (primeiroBloco + fimBlocos) >>> 1;
+            invokeAll(
+                    new GeracaoParalelaLinhas(exportador, cabecalho, produtos, blocos, totaisBlocos, primeiroBloco, meio),
+                    new GeracaoParalelaLinhas(exportador, cabecalho, produtos, blocos, totaisBlocos, meio, fimBlocos));
+            return;
+        }
+
+        final int inicio = inicioBloco(primeiroBloco);
+        final int fim = inicioBloco(primeiroBloco + 1);
+        final StringBuilder bloco = new StringBuilder();
+        final TotaisTabela totais = cabecalho.novosTotais();
+        for (Produto produto : produtos.subList(inicio, fim)) {
+            exportador.gerarColunasLinha(cabecalho, produto, bloco);
+            if (totais != null) {
+                totais.acumular(produto);
+            }
+        }
+        blocos[primeiroBloco] = bloco;
+        totaisBlocos[primeiroBloco] = totais;
+    }
+
+    /**
+     * Calcula a posição na lista do primeiro produto de um bloco, distribuindo
+     * os produtos da forma mais uniforme possível entre os blocos.
+     *
+     * @param indiceBloco índice do bloco
+     * @return a posição do primeiro produto do bloco
+     */
+    private int inicioBloco(int indiceBloco) {
+        return (int) ((long) produtos.size() * indiceBloco / blocos.length);
+    }
+
+}
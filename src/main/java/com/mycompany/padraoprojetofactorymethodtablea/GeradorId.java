@@ -0,0 +1,63 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+/**
+ * Estratégia usada por {@link Produto} para gerar automaticamente o id de cada
+ * novo produto. As implementações devem ser thread-safe, já que produtos podem
+ * ser criados por várias threads ao mesmo tempo, e nunca devem gerar o mesmo
+ * id duas vezes.
+ *
+ * @author Lidiane
+ * @see Produto#setGeradorId(GeradorId)
+ */
+public interface GeradorId {
+
+    /**
+     * Gera um novo id, diferente de todos os gerados anteriormente.
+     *
+     * @return o id gerado
+     * @throws IllegalStateException se não houver mais ids disponíveis
+     */
+    int proximoId();
+
+    /**
+     * Obtém o maior id já gerado ou reservado por este gerador, de modo que
+     * nenhum id gerado até o momento é maior que ele.
+     *
+     * @return o último id utilizado, ou 0 se nenhum id foi gerado
+     */
+    int getUltimoId();
+
+    /**
+     * Faz com que todos os ids gerados a partir de agora sejam maiores que um
+     * determinado id, que pode ter sido gerado por outro gerador. Se o
+     * gerador já estiver além deste id, nada muda.
+     *
+     * @param ultimoId último id já utilizado
+     * @see Produto#setGeradorId(GeradorId)
+     */
+    void continuarApos(int ultimoId);
+
+}
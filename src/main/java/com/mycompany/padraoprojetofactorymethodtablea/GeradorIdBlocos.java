@@ -0,0 +1,155 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gera ids de forma thread-safe reservando, para cada thread, um bloco de ids
+ * consecutivos. Cada thread só acessa o contador compartilhado ao esgotar seu
+ * bloco, o que elimina a disputa pelo contador quando muitas threads criam
+ * produtos ao mesmo tempo.
+ *
+ * <p>
+ * Os ids são únicos e crescentes dentro de cada thread, mas não seguem a
+ * ordem global de criação dos produtos, e ids reservados por uma thread que
+ * termina sem usar todo o seu bloco não são aproveitados.</p>
+ *
+ * @author Lidiane
+ * @see GeradorIdSequencial
+ */
+public class GeradorIdBlocos implements GeradorId {
+
+    private final AtomicInteger ultimoIdReservado;
+
+    private final int tamanhoBloco;
+
+    /**
+     * Id a partir do qual os blocos já reservados pelas threads deixam de ser
+     * usados, definido por {@link #continuarApos(int)}: um bloco cujo próximo
+     * id não seja maior que ele é descartado e um novo bloco é reservado.
+     */
+    private volatile int idMinimo;
+
+    /**
+     * Bloco de ids reservado para a thread atual.
+     */
+    private final ThreadLocal<Bloco> blocoThread = ThreadLocal.withInitial(Bloco::new);
+
+    /**
+     * Instancia um gerador cujo primeiro bloco começará no id 1.
+     *
+     * @param tamanhoBloco quantidade de ids reservados de uma só vez por cada
+     * thread
+     */
+    public GeradorIdBlocos(int tamanhoBloco) {
+        this(tamanhoBloco, 0);
+    }
+
+    /**
+     * Instancia um gerador que continua a sequência a partir de um id já
+     * utilizado.
+     *
+     * @param tamanhoBloco quantidade de ids reservados de uma só vez por cada
+     * thread
+     * @param ultimoId último id já utilizado
+     */
+    public GeradorIdBlocos(int tamanhoBloco, int ultimoId) {
+        if (tamanhoBloco < 1) {
+            throw new IllegalArgumentException("O tamanho do bloco deve ser maior que zero: " + tamanhoBloco);
+        }
+        this.tamanhoBloco = tamanhoBloco;
+        this.ultimoIdReservado = new AtomicInteger(ultimoId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Inclui os ids reservados pelas threads e ainda não utilizados.</p>
+     */
+    @Override
+    public int getUltimoId() {
+        final int id = ultimoIdReservado.get();
+        return id < 0 ? Integer.MAX_VALUE : id;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Os blocos já reservados pelas threads que contenham ids não maiores que
+     * o informado são descartados.</p>
+     */
+    @Override
+    public synchronized void continuarApos(int ultimoId) {
+        ultimoIdReservado.updateAndGet(atual -> atual < 0 ? atual : Math.max(atual, ultimoId));
+        if (ultimoId > idMinimo) {
+            idMinimo = ultimoId;
+        }
+    }
+
+    @Override
+    public int proximoId() {
+        final Bloco bloco = blocoThread.get();
+        if (bloco.proximo > bloco.ultimo || bloco.proximo <= idMinimo) {
+            reservar(bloco);
+        }
+        return bloco.proximo++;
+    }
+
+    /**
+     * Reserva um novo bloco de ids para a thread atual.
+     *
+     * @param bloco bloco da thread atual, a ser atualizado com os novos ids
+     */
+    private void reservar(Bloco bloco) {
+        final int anterior = ultimoIdReservado.getAndAdd(tamanhoBloco);
+        final long ultimo = (long) anterior + tamanhoBloco;
+        if (anterior < 0 || ultimo > Integer.MAX_VALUE) {
+            ultimoIdReservado.set(Integer.MIN_VALUE);
+            throw new IllegalStateException("Não há mais ids disponíveis");
+        }
+        bloco.proximo = anterior + 1;
+        bloco.ultimo = (int) ultimo;
+    }
+
+    /**
+     * Intervalo de ids reservado para uma thread.
+     */
+    private static final class Bloco {
+
+        /**
+         * Próximo id a ser entregue.
+         */
+        private int proximo = 1;
+
+        /**
+         * Último id do bloco. Começa menor que {@link #proximo} para que o
+         * primeiro bloco seja reservado na primeira chamada.
+         */
+        private int ultimo;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gera ids sequenciais (1, 2, 3, ...) de forma thread-safe, por meio de um
+ * {@link AtomicInteger}. Os ids seguem exatamente a ordem em que os produtos
+ * são criados, mas todas as threads disputam o mesmo contador. Esta é a
+ * estratégia padrão de {@link Produto}.
+ *
+ * @author Lidiane
+ * @see GeradorIdBlocos
+ */
+public class GeradorIdSequencial implements GeradorId {
+
+    private final AtomicInteger ultimoId;
+
+    /**
+     * Instancia um gerador cujo primeiro id será 1.
+     */
+    public GeradorIdSequencial() {
+        this(0);
+    }
+
+    /**
+     * Instancia um gerador que continua a sequência a partir de um id já
+     * utilizado.
+     *
+     * @param ultimoId último id já utilizado, de modo que o primeiro id gerado
+     * será {@code ultimoId + 1}
+     */
+    public GeradorIdSequencial(int ultimoId) {
+        this.ultimoId = new AtomicInteger(ultimoId);
+    }
+
+    @Override
+    public int proximoId() {
+        final int id = ultimoId.incrementAndGet();
+        if (id <= 0) {
+            throw new IllegalStateException("Não há mais ids disponíveis");
+        }
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Se os ids se esgotaram, o contador já passou de
+     * {@link Integer#MAX_VALUE} e ficou negativo, logo todos os ids positivos
+     * são considerados utilizados.</p>
+     */
+    @Override
+    public int getUltimoId() {
+        final int id = ultimoId.get();
+        return id < 0 ? Integer.MAX_VALUE : id;
+    }
+
+    @Override
+    public void continuarApos(int ultimoId) {
+        this.ultimoId.updateAndGet(atual -> atual < 0 ? atual : Math.max(atual, ultimoId));
+    }
+
+}
@@ -0,0 +1,124 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Histograma de latências com precisão relativa fixa, no estilo do
+ * HdrHistogram. Os valores são agrupados em faixas de potências de 2, cada
+ * uma dividida em {@link #SUB_FAIXAS} intervalos de mesmo tamanho, de modo
+ * que o erro de cada valor registrado é de no máximo 1/{@link #SUB_FAIXAS}
+ * (12,5%), seja ele de nanossegundos ou de horas. O histograma ocupa memória
+ * constante e registrar um valor é apenas um incremento atômico, sem
+ * bloqueios.
+ *
+ * @author Lidiane
+ */
+final class HistogramaLatencia {
+
+    private static final int BITS_SUB_FAIXA = 3;
+
+    private static final int SUB_FAIXAS = 1 << BITS_SUB_FAIXA;
+
+    private final AtomicLongArray contagens = new AtomicLongArray((Long.SIZE - BITS_SUB_FAIXA) * SUB_FAIXAS);
+
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra um valor. Valores negativos são registrados como 0.
+     *
+     * @param valor valor a ser registrado
+     */
+    void registrar(long valor) {
+        final long positivo = Math.max(0, valor);
+        contagens.incrementAndGet(indice(positivo));
+        maximo.accumulate(positivo);
+    }
+
+    /**
+     * Obtém o intervalo onde um valor deve ser registrado. Valores menores
+     * que {@link #SUB_FAIXAS} têm um intervalo cada; os demais são agrupados
+     * pelos {@link #BITS_SUB_FAIXA} bits seguintes ao bit mais significativo.
+     */
+    private static int indice(long valor) {
+        if (valor < SUB_FAIXAS) {
+            return (int) valor;
+        }
+
+        final int deslocamento = Long.SIZE - 1 - Long.numberOfLeadingZeros(valor) - BITS_SUB_FAIXA;
+        final int subFaixa = (int) (valor >>> deslocamento) & (SUB_FAIXAS - 1);
+        return (deslocamento + 1) * SUB_FAIXAS + subFaixa;
+    }
+
+    /**
+     * @return o maior valor que pode ser registrado em um intervalo
+     */
+    private static long maiorValor(int indice) {
+        if (indice < SUB_FAIXAS) {
+            return indice;
+        }
+
+        final int deslocamento = indice / SUB_FAIXAS - 1;
+        final long inicio = (long) (SUB_FAIXAS + indice % SUB_FAIXAS) << deslocamento;
+        return inicio + (1L << deslocamento) - 1;
+    }
+
+    /**
+     * Obtém o valor abaixo do qual está um determinado percentual dos valores
+     * registrados, com a precisão do intervalo onde ele foi registrado.
+     *
+     * @param percentil percentual entre 0 e 100
+     * @return o valor do percentil ou 0 se nenhum valor foi registrado
+     */
+    long getPercentil(double percentil) {
+        long total = 0;
+        for (int i = 0; i < contagens.length(); i++) {
+            total += contagens.get(i);
+        }
+
+        final long alvo = Math.max(1, (long) Math.ceil(total * percentil / 100));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length() && total > 0; i++) {
+            acumulado += contagens.get(i);
+            if (acumulado >= alvo) {
+                return Math.min(maiorValor(i), maximo.get());
+            }
+        }
+        return 0;
+    }
+
+    long getMaximo() {
+        return maximo.get();
+    }
+
+    void zerar() {
+        for (int i = 0; i < contagens.length(); i++) {
+            contagens.set(i, 0);
+        }
+        maximo.reset();
+    }
+
+}
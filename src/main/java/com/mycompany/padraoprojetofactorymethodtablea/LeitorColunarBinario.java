@@ -0,0 +1,263 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Lê arquivos gerados por {@link ExportadorColunarBinario}. O arquivo é
+ * mapeado em memória e os valores são lidos diretamente do mapeamento: as
+ * colunas numéricas podem ser obtidas como {@link IntBuffer} ou
+ * {@link LongBuffer} e os textos como {@link ByteBuffer} com os bytes UTF-8,
+ * sem cópias e sem criar Strings para cada célula.
+ *
+ * <p>
+ * Como o mapeamento é feito com um único {@link ByteBuffer}, são suportados
+ * arquivos de até 2 GiB.</p>
+ *
+ * @author Lidiane
+ */
+public final class LeitorColunarBinario {
+
+    private final ByteBuffer dados;
+
+    private final int numeroLinhas;
+
+    private final String[] titulos;
+
+    private final TipoValorColuna[] tipos;
+
+    /**
+     * Posição do bloco de dados de cada coluna no arquivo.
+     */
+    private final int[] inicioColunas;
+
+    /**
+     * Para colunas de texto, posição do primeiro byte UTF-8 dos valores,
+     * logo após os deslocamentos.
+     */
+    private final int[] inicioTextos;
+
+    private LeitorColunarBinario(ByteBuffer dados) throws IOException {
+        this.dados = dados.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (dados.getInt(0) != ExportadorColunarBinario.MAGICO) {
+                throw new IOException("O arquivo não está no formato colunar binário");
+            }
+            if (dados.getInt(4) != ExportadorColunarBinario.VERSAO) {
+                throw new IOException("Versão do formato colunar binário não suportada: " + dados.getInt(4));
+            }
+
+            final int numeroColunas = dados.getInt(8);
+            this.numeroLinhas = dados.getInt(12);
+            this.titulos = new String[numeroColunas];
+            this.tipos = new TipoValorColuna[numeroColunas];
+            this.inicioColunas = new int[numeroColunas];
+            this.inicioTextos = new int[numeroColunas];
+
+            int posicao = 16;
+            for (int i = 0; i < numeroColunas; i++) {
+                tipos[i] = TipoValorColuna.values()[dados.get(posicao)];
+                final int tamanhoTitulo = dados.getInt(posicao + 1);
+                final byte[] titulo = new byte[tamanhoTitulo];
+                dados.get(posicao + 5, titulo);
+                titulos[i] = new String(titulo, StandardCharsets.UTF_8);
+                posicao += 5 + tamanhoTitulo;
+            }
+
+            for (int i = 0; i < numeroColunas; i++) {
+                posicao = alinhar(posicao);
+                inicioColunas[i] = posicao;
+                switch (tipos[i]) {
+                    case INT:
+                        posicao += numeroLinhas * Integer.BYTES;
+                        break;
+                    case LONG:
+                        posicao += numeroLinhas * Long.BYTES;
+                        break;
+                    default:
+                        inicioTextos[i] = posicao + (numeroLinhas + 1) * Integer.BYTES;
+                        posicao = inicioTextos[i] + dados.getInt(inicioTextos[i] - Integer.BYTES);
+                }
+            }
+
+            if (posicao > dados.limit()) {
+                throw new IOException("O arquivo colunar binário está incompleto");
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("O arquivo colunar binário está incompleto ou corrompido", e);
+        }
+    }
+
+    /**
+     * Abre um arquivo colunar binário, mapeando-o em memória. O canal usado
+     * para o mapeamento é fechado imediatamente, pois o mapeamento permanece
+     * válido até ser descartado pelo coletor de lixo.
+     *
+     * @param arquivo caminho do arquivo a ser lido
+     * @return o leitor do arquivo
+     * @throws IOException se o arquivo não puder ser lido ou não estiver no
+     * formato esperado
+     */
+    public static LeitorColunarBinario abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("O arquivo é grande demais para ser mapeado: " + arquivo);
+            }
+            return new LeitorColunarBinario(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+        }
+    }
+
+    private static int alinhar(int posicao) {
+        final int resto = posicao % ExportadorColunarBinario.ALINHAMENTO;
+        return resto == 0 ? posicao : posicao + ExportadorColunarBinario.ALINHAMENTO - resto;
+    }
+
+    public int getNumeroLinhas() {
+        return numeroLinhas;
+    }
+
+    public int getNumeroColunas() {
+        return titulos.length;
+    }
+
+    public String getTitulo(int coluna) {
+        return titulos[coluna];
+    }
+
+    public TipoValorColuna getTipo(int coluna) {
+        return tipos[coluna];
+    }
+
+    /**
+     * Obtém o índice de uma coluna a partir do seu título.
+     *
+     * @param titulo título da coluna
+     * @return o índice da coluna ou -1 se não houver coluna com tal título
+     */
+    public int indiceColuna(String titulo) {
+        for (int i = 0; i < titulos.length; i++) {
+            if (titulos[i].equals(titulo)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int getInt(int coluna, int linha) {
+        verificarTipo(coluna, TipoValorColuna.INT);
+        Objects.checkIndex(linha, numeroLinhas);
+        return dados.getInt(inicioColunas[coluna] + linha * Integer.BYTES);
+    }
+
+    public long getLong(int coluna, int linha) {
+        verificarTipo(coluna, TipoValorColuna.LONG);
+        Objects.checkIndex(linha, numeroLinhas);
+        return dados.getLong(inicioColunas[coluna] + linha * Long.BYTES);
+    }
+
+    /**
+     * Obtém todos os valores de uma coluna int como uma visão do arquivo
+     * mapeado, sem copiá-los.
+     *
+     * @param coluna índice da coluna
+     * @return os valores da coluna, um por linha
+     */
+    public IntBuffer getColunaInt(int coluna) {
+        verificarTipo(coluna, TipoValorColuna.INT);
+        return dados.slice(inicioColunas[coluna], numeroLinhas * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    /**
+     * Obtém todos os valores de uma coluna long como uma visão do arquivo
+     * mapeado, sem copiá-los.
+     *
+     * @param coluna índice da coluna
+     * @return os valores da coluna, um por linha
+     */
+    public LongBuffer getColunaLong(int coluna) {
+        verificarTipo(coluna, TipoValorColuna.LONG);
+        return dados.slice(inicioColunas[coluna], numeroLinhas * Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    }
+
+    /**
+     * @param coluna índice de uma coluna de texto
+     * @param linha índice da linha
+     * @return o tamanho, em bytes UTF-8, do texto da célula
+     */
+    public int getTamanhoTexto(int coluna, int linha) {
+        verificarTipo(coluna, TipoValorColuna.TEXTO);
+        Objects.checkIndex(linha, numeroLinhas);
+        final int deslocamentos = inicioColunas[coluna] + linha * Integer.BYTES;
+        return dados.getInt(deslocamentos + Integer.BYTES) - dados.getInt(deslocamentos);
+    }
+
+    /**
+     * Obtém os bytes UTF-8 do texto de uma célula como uma visão somente
+     * leitura do arquivo mapeado, sem copiá-los nem criar uma String.
+     *
+     * @param coluna índice de uma coluna de texto
+     * @param linha índice da linha
+     * @return os bytes do texto da célula
+     */
+    public ByteBuffer getTextoUtf8(int coluna, int linha) {
+        verificarTipo(coluna, TipoValorColuna.TEXTO);
+        Objects.checkIndex(linha, numeroLinhas);
+        final int deslocamentos = inicioColunas[coluna] + linha * Integer.BYTES;
+        final int inicio = dados.getInt(deslocamentos);
+        final int fim = dados.getInt(deslocamentos + Integer.BYTES);
+        return dados.slice(inicioTextos[coluna] + inicio, fim - inicio).asReadOnlyBuffer();
+    }
+
+    /**
+     * Obtém o texto de uma célula como String. Diferente de
+     * {@link #getTextoUtf8(int, int)}, cria uma nova String a cada chamada.
+     *
+     * @param coluna índice de uma coluna de texto
+     * @param linha índice da linha
+     * @return o texto da célula
+     */
+    public String getTexto(int coluna, int linha) {
+        return StandardCharsets.UTF_8.decode(getTextoUtf8(coluna, linha)).toString();
+    }
+
+    private void verificarTipo(int coluna, TipoValorColuna tipo) {
+        if (tipos[coluna] != tipo) {
+            throw new IllegalArgumentException(
+                    "A coluna " + titulos[coluna] + " é do tipo " + tipos[coluna] + ", não " + tipo);
+        }
+    }
+
+}
@@ -0,0 +1,232 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Ouvinte que acumula as medições das exportações (linhas e caracteres por
+ * segundo, histograma de latência das exportações e tempo médio de cada
+ * coluna) e as disponibiliza por JMX. Um mesmo objeto pode ser usado como
+ * ouvinte de vários exportadores, inclusive em threads diferentes: os
+ * contadores usam {@link LongAdder} e o histograma é atualizado sem
+ * bloqueios.
+ *
+ * @author Lidiane
+ */
+public class MetricasExportacao implements OuvinteExportacao, MetricasExportacaoMXBean {
+
+    private static final String DOMINIO_JMX = "com.mycompany.padraoprojetofactorymethodtablea";
+
+    private final LongAdder exportacoes = new LongAdder();
+
+    private final LongAdder linhas = new LongAdder();
+
+    private final LongAdder caracteres = new LongAdder();
+
+    private final LongAdder tempoTotalNanos = new LongAdder();
+
+    private final HistogramaLatencia latencias = new HistogramaLatencia();
+
+    private final ConcurrentMap<String, TempoColuna> temposColunas = new ConcurrentHashMap<>();
+
+    private final int intervaloAmostragemColunas;
+
+    private ObjectName nomeJmx;
+
+    /**
+     * Instancia um objeto que mede as colunas a cada
+     * {@link OuvinteExportacao#INTERVALO_AMOSTRAGEM_PADRAO} linhas.
+     */
+    public MetricasExportacao() {
+        this(INTERVALO_AMOSTRAGEM_PADRAO);
+    }
+
+    /**
+     * Instancia um objeto que mede as colunas a cada determinada quantidade de
+     * linhas.
+     *
+     * @param intervaloAmostragemColunas a cada quantas linhas as colunas
+     * devem ser medidas, ou 0 para não medir as colunas
+     */
+    public MetricasExportacao(int intervaloAmostragemColunas) {
+        if (intervaloAmostragemColunas < 0) {
+            throw new IllegalArgumentException("O intervalo de amostragem não pode ser negativo: " + intervaloAmostragemColunas);
+        }
+        this.intervaloAmostragemColunas = intervaloAmostragemColunas;
+    }
+
+    @Override
+    public void exportacaoConcluida(ExportadorListaProduto exportador, long linhas, long caracteres, long duracaoNanos) {
+        this.exportacoes.increment();
+        this.linhas.add(linhas);
+        this.caracteres.add(caracteres);
+        this.tempoTotalNanos.add(duracaoNanos);
+        this.latencias.registrar(duracaoNanos);
+    }
+
+    @Override
+    public void colunaMedida(Coluna coluna, long duracaoNanos) {
+        temposColunas.computeIfAbsent(coluna.getTitulo(), titulo -> new TempoColuna()).registrar(duracaoNanos);
+    }
+
+    @Override
+    public int getIntervaloAmostragemColunas() {
+        return intervaloAmostragemColunas;
+    }
+
+    /**
+     * Registra este objeto no servidor JMX da plataforma, com o nome
+     * {@code com.mycompany.padraoprojetofactorymethodtablea:type=MetricasExportacao,name=<nome>}.
+     *
+     * @param nome nome que identifica as métricas, como o formato ou o
+     * relatório exportado
+     */
+    public synchronized void registrar(String nome) {
+        if (nomeJmx != null) {
+            throw new IllegalStateException("As métricas já foram registradas como " + nomeJmx);
+        }
+
+        try {
+            final ObjectName objectName = new ObjectName(DOMINIO_JMX + ":type=MetricasExportacao,name=" + ObjectName.quote(nome));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            nomeJmx = objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível registrar as métricas no JMX: " + nome, e);
+        }
+    }
+
+    /**
+     * Remove o registro deste objeto do servidor JMX da plataforma, caso ele
+     * tenha sido registrado.
+     */
+    public synchronized void desregistrar() {
+        if (nomeJmx == null) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(nomeJmx);
+            nomeJmx = null;
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível remover o registro das métricas no JMX: " + nomeJmx, e);
+        }
+    }
+
+    @Override
+    public long getExportacoes() {
+        return exportacoes.sum();
+    }
+
+    @Override
+    public long getLinhas() {
+        return linhas.sum();
+    }
+
+    @Override
+    public long getCaracteres() {
+        return caracteres.sum();
+    }
+
+    @Override
+    public long getTempoTotalNanos() {
+        return tempoTotalNanos.sum();
+    }
+
+    @Override
+    public double getLinhasPorSegundo() {
+        return porSegundo(linhas.sum());
+    }
+
+    @Override
+    public double getCaracteresPorSegundo() {
+        return porSegundo(caracteres.sum());
+    }
+
+    private double porSegundo(long quantidade) {
+        final long nanos = tempoTotalNanos.sum();
+        return nanos == 0 ? 0 : quantidade * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    @Override
+    public long getLatenciaMedianaNanos() {
+        return latencias.getPercentil(50);
+    }
+
+    @Override
+    public long getLatenciaP99Nanos() {
+        return latencias.getPercentil(99);
+    }
+
+    @Override
+    public long getLatenciaMaximaNanos() {
+        return latencias.getMaximo();
+    }
+
+    @Override
+    public Map<String, Long> getTempoMedioColunasNanos() {
+        final Map<String, Long> medias = new TreeMap<>();
+        temposColunas.forEach((titulo, tempo) -> medias.put(titulo, tempo.getMedia()));
+        return medias;
+    }
+
+    @Override
+    public void zerar() {
+        exportacoes.reset();
+        linhas.reset();
+        caracteres.reset();
+        tempoTotalNanos.reset();
+        latencias.zerar();
+        temposColunas.clear();
+    }
+
+    /**
+     * Tempo acumulado das amostras de uma coluna.
+     */
+    private static final class TempoColuna {
+
+        private final LongAdder amostras = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+        void registrar(long duracaoNanos) {
+            amostras.increment();
+            nanos.add(duracaoNanos);
+        }
+
+        long getMedia() {
+            final long quantidade = amostras.sum();
+            return quantidade == 0 ? 0 : nanos.sum() / quantidade;
+        }
+    }
+
+}
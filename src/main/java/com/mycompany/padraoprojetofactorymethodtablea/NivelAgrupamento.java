@@ -0,0 +1,75 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Nível de agrupamento de uma exportação agrupada, como a marca dos
+ * produtos. Cada nível define um título e a função que obtém, de cada
+ * produto, a chave do grupo ao qual ele pertence. Sempre que a chave muda, a
+ * tabela recebe uma linha de grupo com o título e a chave, como
+ * "Marca: LG".
+ *
+ * <p>
+ * As chaves são comparadas por meio de {@link Object#equals(Object)} e podem
+ * ser null. A função deve retornar sempre a mesma chave para um mesmo
+ * produto.</p>
+ *
+ * @author Lidiane
+ * @see ExportacaoAgrupada
+ */
+public final class NivelAgrupamento {
+
+    private final String titulo;
+
+    private final Function<Produto, ?> chave;
+
+    /**
+     * Instancia um nível de agrupamento.
+     *
+     * @param titulo título exibido nas linhas de grupo deste nível
+     * @param chave função que obtém a chave do grupo de um produto
+     */
+    public NivelAgrupamento(String titulo, Function<Produto, ?> chave) {
+        this.titulo = Objects.requireNonNull(titulo);
+        this.chave = Objects.requireNonNull(chave);
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    /**
+     * Obtém a chave do grupo ao qual um produto pertence neste nível.
+     *
+     * @param produto produto a ser agrupado
+     * @return a chave do grupo do produto
+     */
+    public Object obterChave(Produto produto) {
+        return chave.apply(produto);
+    }
+
+}
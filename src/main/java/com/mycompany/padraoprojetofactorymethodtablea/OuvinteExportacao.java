@@ -0,0 +1,87 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+/**
+ * Recebe medições das exportações feitas por um exportador, permitindo
+ * acompanhar onde o tempo de exportação é gasto. Um ouvinte é associado a um
+ * exportador por meio de
+ * {@link AbstractExportadorListaProduto#setOuvinte(OuvinteExportacao)}; exportadores
+ * sem ouvinte não fazem medição alguma.
+ *
+ * <p>
+ * Os métodos podem ser chamados por várias threads ao mesmo tempo e são
+ * executados na thread da exportação, logo devem ser rápidos.</p>
+ *
+ * <p>
+ * O volume exportado é medido em caracteres (unidades UTF-16 de
+ * {@link CharSequence}), e não em bytes: a maioria das exportações escreve em
+ * um {@link Appendable}, onde a codificação é feita pelo chamador. Em textos
+ * ASCII, como as tabelas geradas pelos formatos do projeto, a quantidade de
+ * caracteres é igual à de bytes gravados em UTF-8.</p>
+ *
+ * @author Lidiane
+ * @see MetricasExportacao
+ */
+public interface OuvinteExportacao {
+
+    /**
+     * Intervalo padrão de amostragem do tempo das colunas.
+     */
+    int INTERVALO_AMOSTRAGEM_PADRAO = 1024;
+
+    /**
+     * Notifica a conclusão de uma exportação. Exportações interrompidas por
+     * uma exceção não são notificadas.
+     *
+     * @param exportador exportador que fez a exportação
+     * @param linhas quantidade de linhas de produtos exportadas
+     * @param caracteres quantidade de caracteres gerados, incluindo
+     * cabeçalho e fechamento da tabela (antes da codificação e de qualquer
+     * compactação)
+     * @param duracaoNanos duração da exportação, em nanossegundos
+     */
+    void exportacaoConcluida(ExportadorListaProduto exportador, long linhas, long caracteres, long duracaoNanos);
+
+    /**
+     * Notifica o tempo gasto por uma coluna para gerar o valor de uma linha.
+     * Para não tornar a exportação mais lenta, apenas uma a cada
+     * {@link #getIntervaloAmostragemColunas()} linhas tem suas colunas
+     * medidas. Exportações paralelas não medem as colunas.
+     *
+     * @param coluna coluna medida
+     * @param duracaoNanos tempo gasto pela coluna, em nanossegundos
+     */
+    default void colunaMedida(Coluna coluna, long duracaoNanos) {
+    }
+
+    /**
+     * @return a cada quantas linhas as colunas devem ser medidas, ou 0 para
+     * não medir as colunas
+     */
+    default int getIntervaloAmostragemColunas() {
+        return INTERVALO_AMOSTRAGEM_PADRAO;
+    }
+
+}
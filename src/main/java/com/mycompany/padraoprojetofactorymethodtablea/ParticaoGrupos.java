@@ -0,0 +1,112 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Particiona os produtos de uma fonte não ordenada em grupos, por meio de
+ * tabelas hash aninhadas (uma por nível de agrupamento), em uma única
+ * passagem. Os grupos de cada nível ficam na ordem em que sua primeira chave
+ * aparece na fonte e os produtos de cada grupo mantêm a ordem da fonte.
+ *
+ * <p>
+ * O resultado é a lista dos produtos com cada grupo em um trecho contíguo, que
+ * pode então ser exportada em fluxo, como se a fonte já estivesse
+ * ordenada pelas chaves dos grupos.</p>
+ *
+ * @author Lidiane
+ * @see ExportacaoAgrupada#exportar(Iterable, Appendable)
+ */
+final class ParticaoGrupos {
+
+    /**
+     * Subgrupos do grupo, indexados pela chave do próximo nível, ou null se
+     * o grupo for do último nível.
+     */
+    private final Map<Object, ParticaoGrupos> subgrupos;
+
+    /**
+     * Produtos do grupo, ou null se o grupo não for do último nível.
+     */
+    private final List<Produto> produtos;
+
+    private ParticaoGrupos(boolean ultimoNivel) {
+        this.subgrupos = ultimoNivel ? null : new LinkedHashMap<>();
+        this.produtos = ultimoNivel ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Particiona os produtos de uma fonte pelas chaves dos níveis de
+     * agrupamento.
+     *
+     * @param fonte fonte dos produtos
+     * @param niveis níveis de agrupamento, do mais externo ao mais interno
+     * @return os produtos com os produtos de cada grupo em posições
+     * contíguas
+     */
+    static List<Produto> particionar(Iterable<Produto> fonte, NivelAgrupamento[] niveis) {
+        final ParticaoGrupos raiz = new ParticaoGrupos(niveis.length == 0);
+        int total = 0;
+        for (Produto produto : fonte) {
+            ParticaoGrupos grupo = raiz;
+            for (int i = 0; i < niveis.length; i++) {
+                final Object chave = niveis[i].obterChave(produto);
+                ParticaoGrupos subgrupo = grupo.subgrupos.get(chave);
+                if (subgrupo == null) {
+                    subgrupo = new ParticaoGrupos(i == niveis.length - 1);
+                    grupo.subgrupos.put(chave, subgrupo);
+                }
+                grupo = subgrupo;
+            }
+            grupo.produtos.add(produto);
+            total++;
+        }
+
+        final List<Produto> resultado = new ArrayList<>(total);
+        raiz.coletar(resultado);
+        return resultado;
+    }
+
+    /**
+     * Adiciona ao resultado os produtos do grupo e de seus subgrupos, grupo a
+     * grupo.
+     *
+     * @param resultado lista onde os produtos serão adicionados
+     */
+    private void coletar(List<Produto> resultado) {
+        if (produtos != null) {
+            resultado.addAll(produtos);
+            return;
+        }
+
+        for (ParticaoGrupos subgrupo : subgrupos.values()) {
+            subgrupo.coletar(resultado);
+        }
+    }
+
+}
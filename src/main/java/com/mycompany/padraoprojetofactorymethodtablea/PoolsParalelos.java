@@ -0,0 +1,66 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Mantém os pools de threads usados pelas exportações paralelas, um para
+ * cada paralelismo solicitado, de modo que as threads sejam criadas apenas na
+ * primeira exportação com um dado paralelismo e reaproveitadas nas seguintes.
+ *
+ * <p>
+ * Os pools nunca são encerrados. Suas threads são daemon e terminam sozinhas
+ * após algum tempo sem uso, sendo recriadas pelo pool quando
+ * necessário.</p>
+ *
+ * @author Lidiane
+ */
+final class PoolsParalelos {
+
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private PoolsParalelos() {
+    }
+
+    /**
+     * Obtém o pool compartilhado para um determinado paralelismo, criando-o
+     * se ainda não existir.
+     *
+     * @param paralelismo quantidade de threads do pool
+     * @return o pool com o paralelismo informado
+     * @throws IllegalArgumentException se o paralelismo não for maior que zero
+     */
+    static ForkJoinPool obter(int paralelismo) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("O paralelismo deve ser maior que zero: " + paralelismo);
+        }
+
+        final ForkJoinPool existente = POOLS.get(paralelismo);
+        return existente != null ? existente : POOLS.computeIfAbsent(paralelismo, ForkJoinPool::new);
+    }
+
+}
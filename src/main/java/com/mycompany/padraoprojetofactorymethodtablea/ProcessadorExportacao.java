@@ -0,0 +1,333 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapta um {@link ExportadorListaProduto} ao modelo reativo de
+ * {@link Flow}: recebe produtos de um {@link Flow.Publisher} e publica a
+ * tabela gerada em partes (chunks). A primeira parte é o cabeçalho da tabela,
+ * seguida de uma parte para cada lote de produtos e, por fim, o fechamento da
+ * tabela. Concatenando todas as partes, obtém-se exatamente o resultado de
+ * {@link ExportadorListaProduto#exportar(java.util.List)}.
+ *
+ * <p>
+ * A demanda do assinante (subscriber) é respeitada em toda a cadeia: novos
+ * produtos só são solicitados ao publicador quando o assinante pede mais
+ * partes e não há partes prontas aguardando. Assim, no máximo um lote de
+ * linhas fica em memória, independente da velocidade do publicador e do
+ * assinante.</p>
+ *
+ * <p>
+ * Cada processador atende a uma única exportação: ele aceita um único
+ * publicador e um único assinante.</p>
+ *
+ * <p>
+ * Se o exportador possuir um {@link OuvinteExportacao} na criação do
+ * processador, ele é notificado quando o publicador concluir o envio dos
+ * produtos. A duração medida vai da criação do processador até esse momento,
+ * incluindo o tempo de espera pelo publicador e pelo assinante. Exportações
+ * canceladas ou interrompidas por erro não são notificadas.</p>
+ *
+ * @author Lidiane
+ */
+public class ProcessadorExportacao implements Flow.Processor<Produto, CharSequence> {
+
+    private final AbstractExportadorListaProduto exportador;
+
+    /**
+     * Trechos fixos da tabela, obtidos na criação do processador.
+     */
+    private final CabecalhoTabela cabecalho;
+
+    /**
+     * Quantidade de linhas de produtos em cada parte publicada.
+     */
+    private final int tamanhoLote;
+
+    /**
+     * Partes já geradas, aguardando demanda do assinante.
+     */
+    private final Queue<CharSequence> prontas = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Quantidade de partes solicitadas pelo assinante e ainda não enviadas.
+     */
+    private final AtomicLong demanda = new AtomicLong();
+
+    /**
+     * Quantidade de produtos solicitados ao publicador e ainda não recebidos.
+     */
+    private final AtomicLong produtosPendentes = new AtomicLong();
+
+    /**
+     * Quantidade de pedidos de envio de partes ao assinante. Garante que
+     * apenas uma thread por vez execute {@link #drenar()}.
+     */
+    private final AtomicInteger emAndamento = new AtomicInteger();
+
+    private final AtomicBoolean assinado = new AtomicBoolean();
+
+    private volatile Flow.Subscription assinaturaPublicador;
+
+    private volatile Flow.Subscriber<? super CharSequence> assinante;
+
+    private volatile boolean publicadorConcluido;
+
+    private volatile Throwable erro;
+
+    private volatile boolean cancelado;
+
+    /**
+     * Indica se o assinante já foi notificado do fim da exportação. Só é
+     * acessado dentro de {@link #drenar()}.
+     */
+    private boolean finalizado;
+
+    /**
+     * Lote de linhas sendo gerado. Só é acessado pelos métodos chamados pelo
+     * publicador, que são sempre chamados um por vez.
+     */
+    private final StringBuilder lote = new StringBuilder();
+
+    private int linhasLote;
+
+    /**
+     * Agregações dos produtos recebidos, ou null se a tabela não possuir
+     * agregações. Só é acessado pelos métodos chamados pelo publicador.
+     */
+    private final TotaisTabela totais;
+
+    /**
+     * Ouvinte do exportador na criação do processador, ou null se a
+     * exportação não deve ser medida.
+     */
+    private final OuvinteExportacao ouvinte;
+
+    /**
+     * Momento da criação do processador, usado para medir a duração da
+     * exportação. Só é obtido se houver ouvinte.
+     */
+    private final long inicio;
+
+    /**
+     * Quantidade de linhas de produtos e de caracteres gerados. Só são
+     * acessados pelos métodos chamados pelo publicador.
+     */
+    private long linhas;
+
+    private long caracteres;
+
+    /**
+     * Instancia um processador de exportação.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @param tamanhoLote quantidade de linhas de produtos em cada parte
+     * publicada
+     */
+    public ProcessadorExportacao(ExportadorListaProduto exportador, int tamanhoLote) {
+        if (tamanhoLote < 1) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser maior que zero: " + tamanhoLote);
+        }
+
+        this.exportador = AbstractExportadorListaProduto.exigirSubclasse(exportador);
+        this.cabecalho = this.exportador.getCabecalho();
+        this.totais = cabecalho.novosTotais();
+        this.tamanhoLote = tamanhoLote;
+        this.ouvinte = this.exportador.getOuvinte();
+        this.inicio = ouvinte == null ? 0 : System.nanoTime();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super CharSequence> subscriber) {
+        if (!assinado.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("O processador de exportação aceita um único assinante"));
+            return;
+        }
+
+        prontas.offer(cabecalho.getCabecalho());
+        assinante = subscriber;
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    erro = new IllegalArgumentException("A quantidade solicitada deve ser maior que zero: " + n);
+                } else {
+                    demanda.getAndAccumulate(n, (atual, mais) -> atual + mais < 0 ? Long.MAX_VALUE : atual + mais);
+                }
+                drenar();
+            }
+
+            @Override
+            public void cancel() {
+                cancelado = true;
+                drenar();
+            }
+        });
+        drenar();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (assinaturaPublicador != null || cancelado) {
+            subscription.cancel();
+            return;
+        }
+
+        assinaturaPublicador = subscription;
+        drenar();
+    }
+
+    @Override
+    public void onNext(Produto produto) {
+        exportador.gerarColunasLinha(cabecalho, produto, lote);
+        linhas++;
+        if (totais != null) {
+            totais.acumular(produto);
+        }
+        if (++linhasLote == tamanhoLote) {
+            publicarLote();
+        }
+
+        produtosPendentes.decrementAndGet();
+        drenar();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        erro = throwable;
+        publicadorConcluido = true;
+        drenar();
+    }
+
+    @Override
+    public void onComplete() {
+        if (totais != null) {
+            totais.gerarRodape(lote);
+            linhasLote++;
+        }
+        if (linhasLote > 0) {
+            publicarLote();
+        }
+
+        prontas.offer(cabecalho.getFecharTabela());
+        if (ouvinte != null) {
+            caracteres += cabecalho.getCabecalho().length() + cabecalho.getFecharTabela().length();
+            ouvinte.exportacaoConcluida(exportador, linhas, caracteres, System.nanoTime() - inicio);
+        }
+        publicadorConcluido = true;
+        drenar();
+    }
+
+    private void publicarLote() {
+        caracteres += lote.length();
+        prontas.offer(lote.toString());
+        lote.setLength(0);
+        linhasLote = 0;
+    }
+
+    /**
+     * Envia ao assinante as partes prontas, de acordo com a demanda, e
+     * solicita mais produtos ao publicador quando necessário. Se várias
+     * threads chamarem este método ao mesmo tempo, apenas uma realiza o
+     * trabalho, repetindo-o enquanto houver novos pedidos.
+     */
+    private void drenar() {
+        if (emAndamento.getAndIncrement() != 0) {
+            return;
+        }
+
+        int pedidos = 1;
+        do {
+            final Flow.Subscriber<? super CharSequence> atual = assinante;
+            if (atual != null && !finalizado) {
+                enviarPartes(atual);
+            }
+            pedidos = emAndamento.addAndGet(-pedidos);
+        } while (pedidos != 0);
+    }
+
+    private void enviarPartes(Flow.Subscriber<? super CharSequence> atual) {
+        if (cancelado) {
+            finalizar();
+            return;
+        }
+
+        if (erro != null) {
+            finalizar();
+            atual.onError(erro);
+            return;
+        }
+
+        CharSequence parte;
+        while (demanda.get() > 0 && (parte = prontas.poll()) != null) {
+            demanda.decrementAndGet();
+            atual.onNext(parte);
+        }
+
+        /* O indicador de conclusão deve ser lido antes de verificar a fila,
+         * pois as últimas partes são incluídas antes dele ser alterado. */
+        final boolean concluido = publicadorConcluido;
+        if (!prontas.isEmpty()) {
+            return;
+        }
+
+        if (concluido) {
+            finalizado = true;
+            atual.onComplete();
+            return;
+        }
+
+        final Flow.Subscription publicador = assinaturaPublicador;
+        if (publicador != null && demanda.get() > 0 && produtosPendentes.get() == 0) {
+            produtosPendentes.set(tamanhoLote);
+            publicador.request(tamanhoLote);
+        }
+    }
+
+    private void finalizar() {
+        finalizado = true;
+        prontas.clear();
+        final Flow.Subscription publicador = assinaturaPublicador;
+        if (publicador != null && !publicadorConcluido) {
+            publicador.cancel();
+        }
+    }
+
+}
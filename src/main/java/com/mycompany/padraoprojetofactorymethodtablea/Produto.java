@@ -23,6 +23,9 @@
  */
 package com.mycompany.padraoprojetofactorymethodtablea;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /**
  *
  * @author Lidiane
@@ -30,9 +33,12 @@ package com.mycompany.padraoprojetofactorymethodtablea;
 public class Produto {
 
     /**
-     * Último ID gerado automaticamente.
+     * Estratégia usada para gerar automaticamente o id de cada novo produto.
      */
-    private static int ultimoId = 0;
+    private static volatile GeradorId geradorId = new GeradorIdSequencial();
+
+    private static final AtomicIntegerFieldUpdater<Produto> VERSAO =
+            AtomicIntegerFieldUpdater.newUpdater(Produto.class, "versao");
 
     private int id;
     private String descricao;
@@ -40,8 +46,33 @@ public class Produto {
     private String modelo;
     private int estoque;
 
+    /**
+     * Versão dos dados do produto, incrementada a cada alteração feita por
+     * meio de um setter. Permite saber se um produto mudou desde a última vez
+     * que foi exportado.
+     *
+     * <p>
+     * O incremento é atômico e feito após a alteração do atributo, logo
+     * alterações feitas por threads diferentes nunca são perdidas e uma
+     * thread que lê uma nova versão também enxerga os novos valores dos
+     * atributos.</p>
+     *
+     * @see ExportadorIncremental
+     */
+    private volatile int versao;
+
     public Produto() {
-        this.id = ++ultimoId;
+        this.id = geradorId.proximoId();
+    }
+
+    /**
+     * Construtor usado internamente para criar produtos cujo id já foi
+     * definido, sem consumir um novo id automático.
+     *
+     * @param id id do produto
+     */
+    Produto(int id) {
+        this.id = id;
     }
 
     /**
@@ -64,6 +95,68 @@ public class Produto {
         this.estoque = estoque;
     }
 
+    /**
+     * Substitui todos os dados do produto, inclusive o id, sem alterar sua
+     * versão. Usado para reaproveitar um mesmo objeto ao percorrer os
+     * produtos de um {@link ProdutoStore}.
+     *
+     * @see ProdutoStore#cursor()
+     */
+    void carregar(int id, String descricao, String marca, String modelo, int estoque) {
+        this.id = id;
+        this.descricao = descricao;
+        this.marca = marca;
+        this.modelo = modelo;
+        this.estoque = estoque;
+    }
+
+    /**
+     * Obtém a estratégia usada para gerar o id de novos produtos.
+     *
+     * @return a estratégia de geração de ids atual
+     */
+    public static GeradorId getGeradorId() {
+        return geradorId;
+    }
+
+    /**
+     * Altera a estratégia usada para gerar o id de novos produtos, como
+     * {@link GeradorIdSequencial} (padrão) ou {@link GeradorIdBlocos}. Produtos
+     * já criados mantêm seus ids. Para que os ids continuem únicos, a nova
+     * estratégia passa a gerar ids após o último id gerado ou reservado pela
+     * estratégia atual (veja {@link GeradorId#continuarApos(int)}).
+     *
+     * <p>
+     * A troca deve ser feita enquanto nenhuma outra thread estiver criando
+     * produtos, pois ids gerados pela estratégia atual durante a troca podem
+     * não ser considerados.</p>
+     *
+     * @param geradorId nova estratégia de geração de ids
+     */
+    public static synchronized void setGeradorId(GeradorId geradorId) {
+        Objects.requireNonNull(geradorId, "O gerador de ids não pode ser null");
+        geradorId.continuarApos(Produto.geradorId.getUltimoId());
+        Produto.geradorId = geradorId;
+    }
+
+    /**
+     * Obtém a versão dos dados do produto, que muda sempre que algum atributo
+     * é alterado por meio de um setter.
+     *
+     * @return a versão atual dos dados do produto
+     */
+    public int getVersao() {
+        return versao;
+    }
+
+    /**
+     * Registra uma alteração feita por um setter, depois que o atributo foi
+     * alterado.
+     */
+    private void registrarAlteracao() {
+        VERSAO.incrementAndGet(this);
+    }
+
     public int getId() {
         return id;
     }
@@ -74,6 +167,7 @@ public class Produto {
 
     public void setDescricao(String descricao) {
         this.descricao = descricao;
+        registrarAlteracao();
     }
 
     public String getMarca() {
@@ -82,6 +176,7 @@ public class Produto {
 
     public void setMarca(String marca) {
         this.marca = marca;
+        registrarAlteracao();
     }
 
     public String getModelo() {
@@ -90,6 +185,7 @@ public class Produto {
 
     public void setModelo(String modelo) {
         this.modelo = modelo;
+        registrarAlteracao();
     }
 
     public int getEstoque() {
@@ -98,6 +194,7 @@ public class Produto {
 
     public void setEstoque(int estoque) {
         this.estoque = estoque;
+        registrarAlteracao();
     }
 
 }
@@ -0,0 +1,367 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Armazena uma grande quantidade de produtos em formato colunar: os ids e os
+ * estoques ficam em vetores de int e as descrições, marcas e modelos ficam em
+ * um repositório de Strings sem duplicidade, sendo referenciados por índices
+ * também armazenados em vetores de int. Assim, milhões de produtos ocupam bem
+ * menos memória do que uma lista de objetos {@link Produto}, já que não há um
+ * objeto (com seu cabeçalho e referências) por produto e textos repetidos, como
+ * marcas e modelos, são armazenados uma única vez.
+ *
+ * <p>
+ * Os valores de cada produto são acessados coluna a coluna, pela sua posição,
+ * por meio de métodos como {@link #getMarca(int)}, sem que objetos
+ * {@link Produto} sejam criados. Os produtos podem ser exportados diretamente
+ * por meio de {@link #exportar(ExportadorListaProduto)}, que também não cria
+ * um objeto por linha.</p>
+ *
+ * <p>
+ * As demais exportações, como {@link ExportacaoParalela},
+ * {@link ExportacaoPaginada}, {@link ExportacaoCompactada},
+ * {@link ExportacaoArquivo}, {@link ExportacaoAgrupada} e
+ * {@link ExportacaoTopN}, recebem os produtos por meio de
+ * {@link #comoLista()}, uma visão de acesso aleatório que cria cada produto
+ * apenas quando ele é obtido.</p>
+ *
+ * <p>
+ * Esta classe não é thread-safe para inclusões concorrentes.</p>
+ *
+ * @author Lidiane
+ */
+public final class ProdutoStore {
+
+    /**
+     * Índice usado para representar um texto null.
+     */
+    private static final int NULO = -1;
+
+    private static final int CAPACIDADE_PADRAO = 16;
+
+    private int[] ids;
+
+    private int[] estoques;
+
+    private int[] descricoes;
+
+    private int[] marcas;
+
+    private int[] modelos;
+
+    private int tamanho;
+
+    /**
+     * Textos armazenados sem duplicidade, referenciados pelos índices contidos
+     * em {@link #descricoes}, {@link #marcas} e {@link #modelos}.
+     */
+    private final List<String> textos = new ArrayList<>();
+
+    /**
+     * Posição de cada texto em {@link #textos}, usada para evitar duplicidade.
+     */
+    private final Map<String, Integer> indicesTextos = new HashMap<>();
+
+    /**
+     * Instancia um store vazio com uma capacidade inicial padrão.
+     */
+    public ProdutoStore() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Instancia um store vazio.
+     *
+     * @param capacidade quantidade de produtos que o store pode armazenar
+     * antes de precisar aumentar seus vetores
+     */
+    public ProdutoStore(int capacidade) {
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("A capacidade não pode ser negativa: " + capacidade);
+        }
+
+        ids = new int[capacidade];
+        estoques = new int[capacidade];
+        descricoes = new int[capacidade];
+        marcas = new int[capacidade];
+        modelos = new int[capacidade];
+    }
+
+    /**
+     * Adiciona os dados de um produto ao store, incluindo seu id.
+     *
+     * @param produto produto a ser adicionado
+     */
+    public void adicionar(Produto produto) {
+        adicionar(produto.getId(), produto.getDescricao(), produto.getMarca(), produto.getModelo(), produto.getEstoque());
+    }
+
+    /**
+     * Adiciona os dados de vários produtos ao store.
+     *
+     * @param produtos produtos a serem adicionados
+     */
+    public void adicionarTodos(Iterable<Produto> produtos) {
+        for (Produto produto : produtos) {
+            adicionar(produto);
+        }
+    }
+
+    /**
+     * Adiciona um produto ao store a partir dos valores de seus atributos, sem
+     * que seja preciso criar um objeto {@link Produto}.
+     *
+     * @param id id do produto
+     * @param descricao descrição do produto
+     * @param marca marca do produto
+     * @param modelo modelo do produto
+     * @param estoque quantidade em estoque do produto
+     */
+    public void adicionar(int id, String descricao, String marca, String modelo, int estoque) {
+        if (tamanho == ids.length) {
+            aumentarCapacidade();
+        }
+
+        ids[tamanho] = id;
+        estoques[tamanho] = estoque;
+        descricoes[tamanho] = indiceTexto(descricao);
+        marcas[tamanho] = indiceTexto(marca);
+        modelos[tamanho] = indiceTexto(modelo);
+        tamanho++;
+    }
+
+    private void aumentarCapacidade() {
+        final int novaCapacidade = Math.max(CAPACIDADE_PADRAO, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, novaCapacidade);
+        estoques = Arrays.copyOf(estoques, novaCapacidade);
+        descricoes = Arrays.copyOf(descricoes, novaCapacidade);
+        marcas = Arrays.copyOf(marcas, novaCapacidade);
+        modelos = Arrays.copyOf(modelos, novaCapacidade);
+    }
+
+    /**
+     * Obtém a posição de um texto no repositório de textos, incluindo-o se ele
+     * ainda não existir.
+     *
+     * @param texto texto a ser buscado
+     * @return a posição do texto ou {@link #NULO} se ele for null
+     */
+    private int indiceTexto(String texto) {
+        if (texto == null) {
+            return NULO;
+        }
+
+        final Integer indice = indicesTextos.get(texto);
+        if (indice != null) {
+            return indice;
+        }
+
+        textos.add(texto);
+        indicesTextos.put(texto, textos.size() - 1);
+        return textos.size() - 1;
+    }
+
+    private String texto(int indice) {
+        return indice == NULO ? null : textos.get(indice);
+    }
+
+    /**
+     * @return a quantidade de produtos armazenados
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * @return a quantidade de textos distintos armazenados
+     */
+    public int quantidadeTextos() {
+        return textos.size();
+    }
+
+    public int getId(int posicao) {
+        return ids[validarPosicao(posicao)];
+    }
+
+    public String getDescricao(int posicao) {
+        return texto(descricoes[validarPosicao(posicao)]);
+    }
+
+    public String getMarca(int posicao) {
+        return texto(marcas[validarPosicao(posicao)]);
+    }
+
+    public String getModelo(int posicao) {
+        return texto(modelos[validarPosicao(posicao)]);
+    }
+
+    public int getEstoque(int posicao) {
+        return estoques[validarPosicao(posicao)];
+    }
+
+    private int validarPosicao(int posicao) {
+        if (posicao < 0 || posicao >= tamanho) {
+            throw new IndexOutOfBoundsException("Posição: " + posicao + ", tamanho: " + tamanho);
+        }
+        return posicao;
+    }
+
+    /**
+     * Exporta os produtos armazenados para o formato de um exportador. Se o
+     * exportador for uma subclasse de {@link AbstractExportadorListaProduto},
+     * os valores são lidos diretamente dos vetores, sem criar um objeto
+     * {@link Produto} por linha. Outros exportadores recebem os produtos por
+     * meio de {@link #comoLista()}.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @return String contendo o conteúdo dos produtos em um formato específico
+     */
+    public String exportar(ExportadorListaProduto exportador) {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            exportar(exportador, sb);
+        } catch (IOException e) {
+            /* Um StringBuilder nunca lança IOException. */
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Exporta os produtos armazenados da mesma forma que
+     * {@link #exportar(ExportadorListaProduto)}, enviando cada linha ao
+     * destino assim que ela é gerada.
+     *
+     * @param exportador exportador que define o formato da tabela
+     * @param destino onde a tabela será escrita
+     * @throws IOException se ocorrer um erro ao escrever no destino
+     */
+    public void exportar(ExportadorListaProduto exportador, Appendable destino) throws IOException {
+        if (exportador instanceof AbstractExportadorListaProduto) {
+            ((AbstractExportadorListaProduto) exportador).gerarTabela(cursor(), destino);
+        } else {
+            exportador.exportar(comoLista(), destino);
+        }
+    }
+
+    /**
+     * Obtém uma visão somente leitura dos produtos armazenados, como uma
+     * lista de acesso aleatório, que pode ser usada em qualquer exportação
+     * que recebe uma lista ou um {@link Iterable}. Cada chamada a
+     * {@link List#get(int)} cria um novo {@link Produto}, com o id e os
+     * valores armazenados na posição, de modo que as exportações que guardam
+     * os produtos recebidos, como a agrupada e a top-N, também podem usar a
+     * visão. Alterações nos produtos obtidos não afetam o armazenamento.
+     *
+     * <p>
+     * A visão reflete os produtos adicionados após a sua criação. Ela pode
+     * ser lida por várias threads ao mesmo tempo, como na
+     * {@link ExportacaoParalela}, desde que nenhum produto seja adicionado
+     * durante a leitura.</p>
+     *
+     * @return a visão dos produtos armazenados
+     */
+    public List<Produto> comoLista() {
+        return new ListaProdutos();
+    }
+
+    /**
+     * Cria um produto com os valores armazenados em uma posição, sem
+     * consumir um novo id automático.
+     *
+     * @param posicao posição do produto
+     * @return o produto criado
+     */
+    private Produto criarProduto(int posicao) {
+        final Produto produto = new Produto(0);
+        produto.carregar(ids[posicao], texto(descricoes[posicao]), texto(marcas[posicao]),
+                texto(modelos[posicao]), estoques[posicao]);
+        return produto;
+    }
+
+    /**
+     * Percorre os produtos armazenados para exportá-los. Para que nenhum
+     * objeto seja criado por produto, um único {@link Produto} é preenchido
+     * com os valores de cada posição e retornado a cada chamada de
+     * {@link Iterator#next()}. Por isso, este iterador é de uso exclusivo de
+     * {@link #exportar(ExportadorListaProduto)}, que não
+     * guarda os produtos recebidos.
+     *
+     * @return um iterador que reutiliza o mesmo produto para cada posição
+     */
+    Iterator<Produto> cursor() {
+        final Produto atual = new Produto(0);
+        return new Iterator<Produto>() {
+            private int proxima;
+
+            @Override
+            public boolean hasNext() {
+                return proxima < tamanho;
+            }
+
+            @Override
+            public Produto next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int posicao = proxima++;
+                atual.carregar(ids[posicao], texto(descricoes[posicao]), texto(marcas[posicao]),
+                        texto(modelos[posicao]), estoques[posicao]);
+                return atual;
+            }
+        };
+    }
+
+    /**
+     * Visão dos produtos armazenados como uma lista.
+     *
+     * @see #comoLista()
+     */
+    private final class ListaProdutos extends AbstractList<Produto> implements RandomAccess {
+
+        @Override
+        public Produto get(int posicao) {
+            return criarProduto(validarPosicao(posicao));
+        }
+
+        @Override
+        public int size() {
+            return tamanho;
+        }
+    }
+
+}
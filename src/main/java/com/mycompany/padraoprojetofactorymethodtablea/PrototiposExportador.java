@@ -0,0 +1,78 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantém um protótipo imutável do exportador de cada formato, criado apenas na
+ * primeira vez que o formato é solicitado. Novos exportadores são obtidos
+ * copiando o protótipo, o que evita criar novamente as colunas padrão e gerar
+ * novamente o cabeçalho da tabela a cada exportação.
+ *
+ * @author Lidiane
+ * @see ExportadorListaProduto#prototipo(String)
+ * @see RegistroFormatos
+ */
+final class PrototiposExportador {
+
+    private static final Map<String, ExportadorListaProduto> PROTOTIPOS = new ConcurrentHashMap<>();
+
+    private PrototiposExportador() {
+    }
+
+    /**
+     * Obtém o protótipo do exportador de um formato, criando-o se necessário.
+     *
+     * @param extensaoArquivoExportacao extensão de arquivo que indica o formato
+     * @return o protótipo do exportador do formato
+     * @throws UnsupportedOperationException se não houver formato registrado
+     * para a extensão
+     */
+    static ExportadorListaProduto obter(String extensaoArquivoExportacao) {
+        final ExportadorListaProduto prototipo = PROTOTIPOS.get(extensaoArquivoExportacao);
+        if (prototipo != null) {
+            return prototipo;
+        }
+
+        return PROTOTIPOS.computeIfAbsent(RegistroFormatos.normalizar(extensaoArquivoExportacao), PrototiposExportador::criar);
+    }
+
+    /**
+     * Cria o protótipo de um formato. Se o exportador for uma subclasse de
+     * {@link AbstractExportadorListaProduto}, ele é tornado imutável.
+     *
+     * @param extensao extensão normalizada do formato
+     * @return o protótipo criado
+     */
+    private static ExportadorListaProduto criar(String extensao) {
+        final ExportadorListaProduto exportador = RegistroFormatos.buscar(extensao).newExportador();
+        if (exportador instanceof AbstractExportadorListaProduto) {
+            return ((AbstractExportadorListaProduto) exportador).tornarPrototipo();
+        }
+        return exportador;
+    }
+
+}
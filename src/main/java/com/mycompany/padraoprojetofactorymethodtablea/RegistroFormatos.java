@@ -0,0 +1,101 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registro dos formatos de exportação disponíveis, descobertos por meio de
+ * {@link ServiceLoader} na primeira vez que um formato é solicitado. Os
+ * formatos ficam em um mapa imutável indexado pela extensão normalizada, de
+ * modo que a busca por um formato não depende da quantidade de formatos
+ * registrados.
+ *
+ * <p>
+ * Apenas as classes que implementam {@link FormatoExportacao} são carregadas
+ * na descoberta. A classe do exportador de cada formato só é carregada quando
+ * o formato é usado pela primeira vez.</p>
+ *
+ * @author Lidiane
+ */
+final class RegistroFormatos {
+
+    /**
+     * Formatos registrados, indexados pela extensão normalizada. É carregado
+     * quando esta classe é inicializada, o que só ocorre na primeira busca.
+     */
+    private static final Map<String, FormatoExportacao> FORMATOS = carregar();
+
+    private RegistroFormatos() {
+    }
+
+    /**
+     * Descobre os formatos registrados. Se dois formatos usarem a mesma
+     * extensão, prevalece o primeiro encontrado no classpath.
+     *
+     * @return um mapa imutável com os formatos indexados pela extensão
+     * normalizada
+     */
+    private static Map<String, FormatoExportacao> carregar() {
+        final Map<String, FormatoExportacao> formatos = new HashMap<>();
+        for (FormatoExportacao formato : ServiceLoader.load(FormatoExportacao.class)) {
+            formatos.putIfAbsent(normalizar(formato.getExtensao()), formato);
+        }
+        return Map.copyOf(formatos);
+    }
+
+    /**
+     * Normaliza uma extensão de arquivo, removendo espaços, o ponto inicial e
+     * convertendo as letras para minúsculas. Assim, "HTML", ".html" e "html"
+     * indicam o mesmo formato.
+     *
+     * @param extensao extensão a ser normalizada
+     * @return a extensão normalizada
+     */
+    static String normalizar(String extensao) {
+        final String semEspacos = extensao.trim();
+        final String semPonto = semEspacos.startsWith(".") ? semEspacos.substring(1) : semEspacos;
+        return semPonto.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Busca o formato identificado por uma extensão de arquivo.
+     *
+     * @param extensao extensão de arquivo que indica o formato
+     * @return o formato encontrado
+     * @throws UnsupportedOperationException se não houver formato registrado
+     * para a extensão
+     */
+    static FormatoExportacao buscar(String extensao) {
+        final FormatoExportacao formato = FORMATOS.get(normalizar(extensao));
+        if (formato == null) {
+            throw new UnsupportedOperationException("Formato de arquivo não suportado: " + extensao);
+        }
+        return formato;
+    }
+
+}
@@ -0,0 +1,91 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+/**
+ * Resultado da execução de um {@link TrabalhoExportacao} por um
+ * {@link ServicoExportacaoLote}, incluindo o tempo que o trabalho aguardou
+ * para ser iniciado e o tempo gasto na exportação.
+ *
+ * @author Lidiane
+ */
+public class ResultadoExportacao {
+
+    private final TrabalhoExportacao trabalho;
+
+    private final long esperaNanos;
+
+    private final long duracaoNanos;
+
+    private final Throwable erro;
+
+    /**
+     * Instancia o resultado de um trabalho de exportação.
+     *
+     * @param trabalho trabalho executado
+     * @param esperaNanos tempo, em nanossegundos, que o trabalho aguardou até
+     * que houvesse vaga para ser executado
+     * @param duracaoNanos tempo, em nanossegundos, gasto na exportação
+     * @param erro erro ocorrido durante a exportação ou null se ela foi
+     * concluída com sucesso
+     */
+    ResultadoExportacao(TrabalhoExportacao trabalho, long esperaNanos, long duracaoNanos, Throwable erro) {
+        this.trabalho = trabalho;
+        this.esperaNanos = esperaNanos;
+        this.duracaoNanos = duracaoNanos;
+        this.erro = erro;
+    }
+
+    public TrabalhoExportacao getTrabalho() {
+        return trabalho;
+    }
+
+    /**
+     * @return o tempo, em nanossegundos, que o trabalho aguardou até que
+     * houvesse vaga para ser executado
+     */
+    public long getEsperaNanos() {
+        return esperaNanos;
+    }
+
+    /**
+     * @return o tempo, em nanossegundos, gasto na exportação
+     */
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    /**
+     * @return o erro ocorrido durante a exportação ou null se ela foi
+     * concluída com sucesso
+     */
+    public Throwable getErro() {
+        return erro;
+    }
+
+    public boolean isSucesso() {
+        return erro == null;
+    }
+
+}
@@ -0,0 +1,328 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Destino de exportação que codifica os caracteres recebidos diretamente em
+ * UTF-8, acumulando os bytes em um buffer grande que é escrito em um canal
+ * ({@link WritableByteChannel}) ou em um fluxo ({@link OutputStream}) apenas
+ * quando fica cheio. Assim, a tabela é escrita com poucas operações de E/S
+ * sequenciais e sem criar Strings ou vetores de bytes intermediários para
+ * cada linha.
+ *
+ * <p>
+ * Ao escrever em um canal, como um arquivo, o buffer é direto (fora do heap),
+ * para que o canal não precise copiá-lo antes da escrita. Como alocar um
+ * buffer direto é caro, o buffer de tamanho padrão é reaproveitado pelas
+ * saídas criadas em uma mesma thread, uma de cada vez, sendo devolvido por
+ * {@link #liberar()}. Ao escrever em um
+ * fluxo, o buffer fica no heap e seu vetor é repassado ao fluxo sem cópias, já
+ * que um fluxo só recebe vetores de bytes.</p>
+ *
+ * <p>
+ * Caracteres fora do BMP, representados por pares de surrogates, são
+ * codificados corretamente mesmo se o par for dividido entre duas chamadas
+ * de append. Surrogates inválidos são substituídos por '?'.</p>
+ *
+ * <p>
+ * O canal ou fluxo não é fechado por esta classe. Depois de escrever todo o conteúdo,
+ * {@link #descarregar()} deve ser chamado para enviar os bytes restantes.</p>
+ *
+ * @author Lidiane
+ */
+final class SaidaUtf8 implements Appendable {
+
+    /**
+     * Tamanho padrão do buffer, em bytes.
+     */
+    static final int TAMANHO_BUFFER_PADRAO = 1 << 20;
+
+    /**
+     * Maior quantidade de bytes que um único caractere pode ocupar em UTF-8.
+     */
+    private static final int MAX_BYTES_CARACTERE = 4;
+
+    /**
+     * Canal onde os bytes são escritos, ou null se forem escritos em
+     * {@link #fluxo}.
+     */
+    private final WritableByteChannel canal;
+
+    private final OutputStream fluxo;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Buffer direto de {@link #TAMANHO_BUFFER_PADRAO} bytes de cada thread,
+     * livre para a próxima saída criada na thread. Enquanto uma saída o usa,
+     * a thread não possui buffer livre, logo outra saída criada na mesma
+     * thread antes de {@link #liberar()} recebe um buffer próprio.
+     */
+    private static final ThreadLocal<ByteBuffer> BUFFER_LIVRE_THREAD = new ThreadLocal<>();
+
+    /**
+     * Indica se o buffer deve ser devolvido por {@link #liberar()} para ser
+     * reaproveitado.
+     */
+    private boolean bufferReaproveitavel;
+
+    /**
+     * Surrogate alto recebido no final de uma chamada de append anterior,
+     * aguardando o surrogate baixo que completa o caractere, ou 0 se não
+     * houver nenhum.
+     */
+    private char surrogatePendente;
+
+    private long bytesEscritos;
+
+    /**
+     * Instancia uma saída que escreve em um canal usando o buffer direto livre
+     * da thread atual, que é alocado apenas se a thread ainda não tiver um.
+     * Após a escrita, {@link #liberar()} deve ser chamado para devolver o
+     * buffer.
+     *
+     * @param canal canal onde os bytes serão escritos
+     */
+    SaidaUtf8(WritableByteChannel canal) {
+        final ByteBuffer livre = BUFFER_LIVRE_THREAD.get();
+        BUFFER_LIVRE_THREAD.remove();
+        this.canal = canal;
+        this.fluxo = null;
+        this.buffer = livre == null ? ByteBuffer.allocateDirect(TAMANHO_BUFFER_PADRAO) : livre.clear();
+        this.bufferReaproveitavel = true;
+    }
+
+    SaidaUtf8(WritableByteChannel canal, int tamanhoBuffer) {
+        this.canal = canal;
+        this.fluxo = null;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(MAX_BYTES_CARACTERE, tamanhoBuffer));
+    }
+
+    /**
+     * Instancia uma saída que escreve em um fluxo usando um buffer do heap
+     * já existente, que pode ser reaproveitado por várias saídas, desde que
+     * uma de cada vez. O conteúdo atual do buffer é descartado.
+     *
+     * @param fluxo fluxo onde os bytes serão escritos
+     * @param buffer buffer do heap, com pelo menos
+     * {@link #MAX_BYTES_CARACTERE} bytes
+     */
+    SaidaUtf8(OutputStream fluxo, ByteBuffer buffer) {
+        if (!buffer.hasArray() || buffer.capacity() < MAX_BYTES_CARACTERE) {
+            throw new IllegalArgumentException("O buffer deve estar no heap e ter ao menos " + MAX_BYTES_CARACTERE + " bytes");
+        }
+        this.canal = null;
+        this.fluxo = fluxo;
+        this.buffer = buffer.clear();
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        final CharSequence texto = csq == null ? "null" : csq;
+        return append(texto, 0, texto.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int inicio, int fim) throws IOException {
+        final CharSequence texto = csq == null ? "null" : csq;
+        int i = inicio;
+        while (i < fim) {
+            /* Caminho rápido: copia caracteres ASCII enquanto houver espaço no buffer. */
+            final int limite = Math.min(fim, i + buffer.remaining());
+            while (i < limite && surrogatePendente == 0) {
+                final char c = texto.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer.put((byte) c);
+                i++;
+            }
+
+            if (i < fim) {
+                if (buffer.remaining() < MAX_BYTES_CARACTERE) {
+                    escreverBuffer();
+                } else {
+                    codificar(texto.charAt(i++));
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (buffer.remaining() < MAX_BYTES_CARACTERE) {
+            escreverBuffer();
+        }
+        codificar(c);
+        return this;
+    }
+
+    /**
+     * Calcula quantos bytes um texto ocupará ao ser codificado por esta
+     * classe, sem codificá-lo. Assim como em {@link #codificar(char)}, cada
+     * surrogate inválido ocupa um byte, pois é substituído por '?'.
+     *
+     * @param texto texto a ser medido
+     * @return tamanho do texto em UTF-8, em bytes
+     */
+    static long tamanhoUtf8(CharSequence texto) {
+        final int tamanho = texto.length();
+        long bytes = 0;
+        for (int i = 0; i < tamanho; i++) {
+            final char c = texto.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < tamanho && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Codifica um caractere em UTF-8 no buffer, que deve ter espaço para pelo
+     * menos {@link #MAX_BYTES_CARACTERE} bytes.
+     *
+     * @param c caractere a ser codificado
+     */
+    private void codificar(char c) {
+        if (surrogatePendente != 0) {
+            final char alto = surrogatePendente;
+            surrogatePendente = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(alto, c);
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                return;
+            }
+
+            /* O surrogate alto não foi seguido de um baixo. Como o buffer tinha
+             * espaço para 4 bytes, ainda restam 3 para o caractere atual. */
+            buffer.put((byte) '?');
+        }
+
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)) {
+            surrogatePendente = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xE0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+    }
+
+    /**
+     * Escreve no canal todos os bytes acumulados no buffer.
+     *
+     * @throws IOException se ocorrer um erro ao escrever no canal
+     */
+    private void escreverBuffer() throws IOException {
+        if (fluxo != null) {
+            fluxo.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+            bytesEscritos += buffer.position();
+            buffer.clear();
+            return;
+        }
+
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesEscritos += canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Conclui o texto recebido até o momento, de modo que o próximo append
+     * inicie um texto independente: um surrogate alto no final do texto, sem
+     * o surrogate baixo correspondente, é escrito como '?' em vez de ser
+     * combinado com um surrogate baixo do início do próximo texto. Assim,
+     * cada texto ocupa exatamente {@link #tamanhoUtf8(CharSequence)} bytes.
+     *
+     * @throws IOException se ocorrer um erro ao escrever no canal
+     */
+    void concluirTexto() throws IOException {
+        if (surrogatePendente != 0) {
+            surrogatePendente = 0;
+            if (!buffer.hasRemaining()) {
+                escreverBuffer();
+            }
+            buffer.put((byte) '?');
+        }
+    }
+
+    /**
+     * Escreve no canal todos os bytes ainda não enviados. Um surrogate alto
+     * sem o surrogate baixo correspondente é escrito como '?'.
+     *
+     * @throws IOException se ocorrer um erro ao escrever no canal
+     */
+    void descarregar() throws IOException {
+        concluirTexto();
+        escreverBuffer();
+    }
+
+    /**
+     * Devolve o buffer desta saída para que seja reaproveitado pela próxima
+     * saída criada na thread atual. A saída não deve mais ser usada depois
+     * disso. Os bytes ainda não enviados são descartados, logo
+     * {@link #descarregar()} deve ser chamado antes, se a escrita tiver sido
+     * concluída. Não tem efeito se o buffer não for reaproveitável.
+     */
+    void liberar() {
+        if (bufferReaproveitavel) {
+            bufferReaproveitavel = false;
+            BUFFER_LIVRE_THREAD.set(buffer);
+        }
+    }
+
+    /**
+     * @return quantidade de bytes já escritos no canal
+     */
+    long getBytesEscritos() {
+        return bytesEscritos;
+    }
+
+}
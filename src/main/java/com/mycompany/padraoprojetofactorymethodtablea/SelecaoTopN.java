@@ -0,0 +1,275 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Seleciona os N primeiros produtos de uma fonte, segundo uma ordem, em uma
+ * única passagem e sem ordenar a fonte completa. Os selecionados ficam em um
+ * heap binário limitado a N elementos, cuja raiz é o pior deles: cada produto
+ * só entra no heap se for melhor que a raiz, substituindo-a. Assim, a seleção
+ * leva tempo O(n log N) e ocupa memória O(N).
+ *
+ * <p>
+ * Produtos considerados iguais pela ordem são desempatados pela posição em
+ * que aparecem na fonte, de modo que o resultado é o mesmo de uma ordenação
+ * estável seguida da seleção dos N primeiros, inclusive na versão
+ * paralela.</p>
+ *
+ * @author Lidiane
+ * @see ExportacaoTopN
+ */
+final class SelecaoTopN {
+
+    /**
+     * Capacidade inicial do heap, que cresce conforme necessário até o
+     * limite, para que limites grandes não reservem memória sem necessidade.
+     */
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    /**
+     * Quantidade de blocos da lista por thread na seleção paralela.
+     */
+    private static final int BLOCOS_POR_THREAD = 4;
+
+    private final Comparator<? super Produto> ordem;
+
+    private final int limite;
+
+    private Produto[] produtos;
+
+    /**
+     * Posição na fonte de cada produto do heap, usada para desempate.
+     */
+    private long[] posicoes;
+
+    private int tamanho;
+
+    private SelecaoTopN(Comparator<? super Produto> ordem, int limite) {
+        if (limite < 0) {
+            throw new IllegalArgumentException("A quantidade de produtos não pode ser negativa: " + limite);
+        }
+
+        this.ordem = ordem;
+        this.limite = limite;
+        final int capacidade = Math.min(limite, CAPACIDADE_INICIAL);
+        this.produtos = new Produto[capacidade];
+        this.posicoes = new long[capacidade];
+    }
+
+    /**
+     * Seleciona os N primeiros produtos de uma fonte.
+     *
+     * @param fonte produtos de onde a seleção será feita
+     * @param ordem ordem dos produtos
+     * @param limite quantidade máxima de produtos a serem selecionados (N)
+     * @return os produtos selecionados, na ordem informada
+     */
+    static List<Produto> selecionar(Iterable<Produto> fonte, Comparator<? super Produto> ordem, int limite) {
+        final SelecaoTopN selecao = new SelecaoTopN(ordem, limite);
+        long posicao = 0;
+        for (Produto produto : fonte) {
+            selecao.oferecer(produto, posicao++);
+        }
+        return selecao.ordenados();
+    }
+
+    /**
+     * Seleciona os N primeiros produtos de uma lista em paralelo. A lista é
+     * dividida em blocos, cada bloco tem seus N primeiros selecionados em um
+     * heap próprio e os heaps são combinados dois a dois.
+     *
+     * @param lista lista de onde a seleção será feita
+     * @param ordem ordem dos produtos
+     * @param limite quantidade máxima de produtos a serem selecionados (N)
+     * @param paralelismo quantidade de threads
+     * @return os produtos selecionados, na ordem informada
+     */
+    static List<Produto> selecionarParalelo(List<Produto> lista, Comparator<? super Produto> ordem, int limite, int paralelismo) {
+        final ForkJoinPool pool = PoolsParalelos.obter(paralelismo);
+        if (limite < 0) {
+            throw new IllegalArgumentException("A quantidade de produtos não pode ser negativa: " + limite);
+        }
+
+        final int totalBlocos = Math.max(1, Math.min(lista.size(), paralelismo * BLOCOS_POR_THREAD));
+        return pool.invoke(new SelecaoParalela(lista, ordem, limite, totalBlocos, 0, totalBlocos)).ordenados();
+    }
+
+    /**
+     * Oferece um produto à seleção, que o mantém apenas se ele estiver entre
+     * os N primeiros oferecidos até o momento.
+     *
+     * @param produto produto oferecido
+     * @param posicao posição do produto na fonte
+     */
+    private void oferecer(Produto produto, long posicao) {
+        if (tamanho < limite) {
+            if (tamanho == produtos.length) {
+                final int capacidade = (int) Math.min(limite, 2L * produtos.length);
+                produtos = Arrays.copyOf(produtos, capacidade);
+                posicoes = Arrays.copyOf(posicoes, capacidade);
+            }
+            produtos[tamanho] = produto;
+            posicoes[tamanho] = posicao;
+            subir(tamanho++);
+        } else if (limite > 0 && comparar(produto, posicao, produtos[0], posicoes[0]) < 0) {
+            produtos[0] = produto;
+            posicoes[0] = posicao;
+            descer(0, tamanho);
+        }
+    }
+
+    /**
+     * Oferece à seleção todos os produtos selecionados por outra.
+     *
+     * @param outra seleção a ser combinada com esta
+     */
+    private void combinar(SelecaoTopN outra) {
+        for (int i = 0; i < outra.tamanho; i++) {
+            oferecer(outra.produtos[i], outra.posicoes[i]);
+        }
+    }
+
+    /**
+     * Ordena os produtos selecionados por heapsort, o que desfaz o heap.
+     *
+     * @return os produtos selecionados, na ordem informada
+     */
+    private List<Produto> ordenados() {
+        for (int fim = tamanho - 1; fim > 0; fim--) {
+            trocar(0, fim);
+            descer(0, fim);
+        }
+        return Arrays.asList(Arrays.copyOf(produtos, tamanho));
+    }
+
+    private int comparar(Produto produto1, long posicao1, Produto produto2, long posicao2) {
+        final int comparacao = ordem.compare(produto1, produto2);
+        return comparacao != 0 ? comparacao : Long.compare(posicao1, posicao2);
+    }
+
+    private int comparar(int i, int j) {
+        return comparar(produtos[i], posicoes[i], produtos[j], posicoes[j]);
+    }
+
+    /**
+     * Move um elemento em direção à raiz enquanto ele for pior que o seu pai.
+     */
+    private void subir(int i) {
+        while (i > 0) {
+            final int pai = (i - 1) >>> 1;
+            if (comparar(i, pai) <= 0) {
+                return;
+            }
+            trocar(i, pai);
+            i = pai;
+        }
+    }
+
+    /**
+     * Move um elemento em direção às folhas enquanto algum filho for pior
+     * que ele, considerando apenas as posições anteriores a {@code fim}.
+     */
+    private void descer(int i, int fim) {
+        while (true) {
+            final int esquerdo = 2 * i + 1;
+            if (esquerdo >= fim) {
+                return;
+            }
+
+            final int direito = esquerdo + 1;
+            final int pior = direito < fim && comparar(direito, esquerdo) > 0 ? direito : esquerdo;
+            if (comparar(pior, i) <= 0) {
+                return;
+            }
+            trocar(i, pior);
+            i = pior;
+        }
+    }
+
+    private void trocar(int i, int j) {
+        final Produto produto = produtos[i];
+        produtos[i] = produtos[j];
+        produtos[j] = produto;
+        final long posicao = posicoes[i];
+        posicoes[i] = posicoes[j];
+        posicoes[j] = posicao;
+    }
+
+    /**
+     * Tarefa que seleciona os N primeiros produtos de um intervalo de blocos
+     * de uma lista, dividindo-o ao meio até restar um único bloco. As
+     * tarefas são apenas executadas pelo pool, nunca serializadas.
+     */
+    @SuppressWarnings("serial")
+    private static final class SelecaoParalela extends RecursiveTask<SelecaoTopN> {
+
+        private final List<Produto> lista;
+
+        private final Comparator<? super Produto> ordem;
+
+        private final int limite;
+
+        private final int totalBlocos;
+
+        private final int primeiroBloco;
+
+        private final int fimBlocos;
+
+        SelecaoParalela(List<Produto> lista, Comparator<? super Produto> ordem, int limite, int totalBlocos, int primeiroBloco, int fimBlocos) {
+            this.lista = lista;
+            this.ordem = ordem;
+            this.limite = limite;
+            this.totalBlocos = totalBlocos;
+            this.primeiroBloco = primeiroBloco;
+            this.fimBlocos = fimBlocos;
+        }
+
+        @Override
+        protected SelecaoTopN compute() {
+            if (fimBlocos - primeiroBloco > 1) {
+                final int meio = (primeiroBloco + fimBlocos) >>> 1;
+                final SelecaoParalela segunda = new SelecaoParalela(lista, ordem, limite, totalBlocos, meio, fimBlocos);
+                segunda.fork();
+                final SelecaoTopN selecao = new SelecaoParalela(lista, ordem, limite, totalBlocos, primeiroBloco, meio).compute();
+                selecao.combinar(segunda.join());
+                return selecao;
+            }
+
+            final int inicio = (int) ((long) lista.size() * primeiroBloco / totalBlocos);
+            final int fim = (int) ((long) lista.size() * fimBlocos / totalBlocos);
+            final SelecaoTopN selecao = new SelecaoTopN(ordem, limite);
+            for (int posicao = inicio; posicao < fim; posicao++) {
+                selecao.oferecer(lista.get(posicao), posicao);
+            }
+            return selecao;
+        }
+    }
+
+}
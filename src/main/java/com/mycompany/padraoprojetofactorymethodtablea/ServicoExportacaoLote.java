@@ -0,0 +1,122 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executa vários trabalhos de exportação ao mesmo tempo, cada um em sua
+ * própria virtual thread e com seu próprio exportador, criado por
+ * {@link ExportadorListaProduto#newInstance(String)}. Como virtual threads são
+ * baratas, centenas de relatórios podem ser gerados em paralelo, inclusive
+ * quando os destinos realizam E/S bloqueante.
+ *
+ * <p>
+ * A quantidade de exportações executadas ao mesmo tempo é limitada por um
+ * {@link Semaphore}, para que o consumo de CPU e memória permaneça
+ * controlado.</p>
+ *
+ * @author Lidiane
+ */
+public class ServicoExportacaoLote {
+
+    private final int limiteConcorrencia;
+
+    /**
+     * Instancia um serviço de exportação em lote.
+     *
+     * @param limiteConcorrencia quantidade máxima de exportações executadas ao
+     * mesmo tempo
+     */
+    public ServicoExportacaoLote(int limiteConcorrencia) {
+        if (limiteConcorrencia < 1) {
+            throw new IllegalArgumentException("O limite de concorrência deve ser maior que zero: " + limiteConcorrencia);
+        }
+        this.limiteConcorrencia = limiteConcorrencia;
+    }
+
+    /**
+     * Executa os trabalhos de exportação e aguarda a conclusão de todos eles.
+     * Um erro em um trabalho não interrompe os demais: ele é informado no
+     * resultado correspondente, mesmo que seja um {@link Error}.
+     *
+     * @param trabalhos trabalhos a serem executados
+     * @return o resultado de cada trabalho, na mesma ordem dos trabalhos
+     * @throws InterruptedException se a thread atual for interrompida enquanto
+     * aguarda a conclusão dos trabalhos
+     */
+    public List<ResultadoExportacao> exportar(List<TrabalhoExportacao> trabalhos) throws InterruptedException {
+        final Semaphore vagas = new Semaphore(limiteConcorrencia);
+        final List<Future<ResultadoExportacao>> futuros = new ArrayList<>(trabalhos.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TrabalhoExportacao trabalho : trabalhos) {
+                futuros.add(executor.submit(() -> executar(trabalho, vagas)));
+            }
+
+            final List<ResultadoExportacao> resultados = new ArrayList<>(trabalhos.size());
+            for (Future<ResultadoExportacao> futuro : futuros) {
+                resultados.add(futuro.get());
+            }
+            return resultados;
+        } catch (ExecutionException e) {
+            /* Não deve ocorrer, pois executar() captura todos os erros. */
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Executa um trabalho assim que houver vaga, medindo o tempo de espera e
+     * de exportação.
+     *
+     * @param trabalho trabalho a ser executado
+     * @param vagas semáforo que limita a quantidade de trabalhos simultâneos
+     * @return o resultado do trabalho
+     * @throws InterruptedException se a thread for interrompida enquanto
+     * aguarda uma vaga
+     */
+    private ResultadoExportacao executar(TrabalhoExportacao trabalho, Semaphore vagas) throws InterruptedException {
+        final long criacao = System.nanoTime();
+        vagas.acquire();
+        final long inicio = System.nanoTime();
+        try {
+            final ExportadorListaProduto exportador = ExportadorListaProduto.newInstance(trabalho.getFormato());
+            exportador.exportar(trabalho.getProdutos(), trabalho.getDestino());
+            return new ResultadoExportacao(trabalho, inicio - criacao, System.nanoTime() - inicio, null);
+        } catch (Throwable e) {
+            /* Erros (como um StackOverflowError causado por uma coluna) também
+             * são registrados no resultado, para que não descartem os
+             * resultados dos demais trabalhos. */
+            return new ResultadoExportacao(trabalho, inicio - criacao, System.nanoTime() - inicio, e);
+        } finally {
+            vagas.release();
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+/**
+ * Acumuladores das agregações de uma exportação, um para cada coluna com
+ * agregação, e a geração da linha de rodapé com os seus resultados. A linha
+ * de rodapé usa os mesmos códigos de abertura e fechamento de linha e de
+ * coluna das demais linhas da tabela; colunas sem agregação ficam vazias.
+ *
+ * @author Lidiane
+ * @see CabecalhoTabela#novosTotais()
+ */
+final class TotaisTabela {
+
+    private final CabecalhoTabela cabecalho;
+
+    private final Acumulador[] acumuladores;
+
+    TotaisTabela(CabecalhoTabela cabecalho, Agregacao[] agregacoes) {
+        this.cabecalho = cabecalho;
+        this.acumuladores = new Acumulador[agregacoes.length];
+        for (int i = 0; i < agregacoes.length; i++) {
+            acumuladores[i] = agregacoes[i].novoAcumulador();
+        }
+    }
+
+    /**
+     * Inclui um produto em todas as agregações.
+     *
+     * @param produto produto exportado
+     */
+    void acumular(Produto produto) {
+        for (Acumulador acumulador : acumuladores) {
+            acumulador.acumular(produto);
+        }
+    }
+
+    /**
+     * Inclui nestes totais os produtos acumulados por outros totais da mesma
+     * tabela.
+     *
+     * @param outros totais a serem combinados com estes
+     */
+    void combinar(TotaisTabela outros) {
+        for (int i = 0; i < acumuladores.length; i++) {
+            acumuladores[i].combinar(outros.acumuladores[i]);
+        }
+    }
+
+    /**
+     * Gera a linha de rodapé com os resultados das agregações, adicionando-a
+     * ao final de um buffer.
+     *
+     * @param builder buffer onde a linha será adicionada
+     */
+    void gerarRodape(StringBuilder builder) {
+        final Coluna[] colunas = cabecalho.getColunas();
+        final int[] colunasAgregadas = cabecalho.getColunasAgregadas();
+        builder.append(cabecalho.getAbrirLinha());
+        int proxima = 0;
+        for (int i = 0; i < colunas.length; i++) {
+            if (i > 0) {
+                builder.append(cabecalho.getSeparadorColunas());
+            }
+            builder.append(colunas[i].abrir());
+            if (proxima < colunasAgregadas.length && colunasAgregadas[proxima] == i) {
+                builder.append(acumuladores[proxima++].getResultado());
+            }
+            builder.append(colunas[i].fechar());
+        }
+        builder.append(cabecalho.getFecharLinha());
+    }
+
+}
@@ -0,0 +1,70 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import java.util.Objects;
+
+/**
+ * Representa uma exportação a ser realizada por um
+ * {@link ServicoExportacaoLote}: o formato da tabela, os produtos a serem
+ * exportados e o destino onde a tabela será escrita.
+ *
+ * @author Lidiane
+ */
+public class TrabalhoExportacao {
+
+    private final String formato;
+
+    private final Iterable<Produto> produtos;
+
+    private final Appendable destino;
+
+    /**
+     * Instancia um trabalho de exportação.
+     *
+     * @param formato extensão de arquivo que indica o formato da tabela, como
+     * html ou md
+     * @param produtos produtos a serem exportados
+     * @param destino onde a tabela será escrita
+     * @see ExportadorListaProduto#newInstance(String)
+     */
+    public TrabalhoExportacao(String formato, Iterable<Produto> produtos, Appendable destino) {
+        this.formato = Objects.requireNonNull(formato, "O formato não pode ser null");
+        this.produtos = Objects.requireNonNull(produtos, "Os produtos não podem ser null");
+        this.destino = Objects.requireNonNull(destino, "O destino não pode ser null");
+    }
+
+    public String getFormato() {
+        return formato;
+    }
+
+    public Iterable<Produto> getProdutos() {
+        return produtos;
+    }
+
+    public Appendable getDestino() {
+        return destino;
+    }
+
+}
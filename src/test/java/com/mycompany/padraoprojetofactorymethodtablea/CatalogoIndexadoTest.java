@@ -0,0 +1,190 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compara as consultas de {@link CatalogoIndexado} às de uma busca por força
+ * bruta sobre a lista de produtos, com filtros e ordenações aleatórios,
+ * enquanto os produtos são alterados entre as consultas. As rodadas alternam
+ * poucas alterações, que atualizam apenas as posições alteradas dos índices,
+ * com muitas alterações, que geram os índices novamente por completo.
+ *
+ * @author Lidiane
+ */
+class CatalogoIndexadoTest {
+
+    private static final String[] MARCAS = {"LG", "Sony", "Apple", "Dell", null};
+
+    private static final int PRODUTOS = 5000;
+
+    private static final int RODADAS = 300;
+
+    private static final int FILTROS_POR_RODADA = 6;
+
+    /**
+     * Rodada em que novos produtos são incluídos na lista, mudando o seu
+     * tamanho.
+     */
+    private static final int RODADA_INCLUSAO = 150;
+
+    @Test
+    void consultasIguaisAsDaBuscaPorForcaBruta() {
+        final Random random = new Random(42);
+        final List<Produto> produtos = new ArrayList<>();
+        for (int i = 0; i < PRODUTOS; i++) {
+            produtos.add(new Produto("d" + i, MARCAS[random.nextInt(MARCAS.length)], "m", random.nextInt(200) - 20));
+        }
+
+        final CatalogoIndexado catalogo = new CatalogoIndexado(produtos);
+        assertFalse(catalogo.isDesatualizado());
+        int consultas = 0;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            final int alteracoes = rodada % 10 == 9 ? PRODUTOS * 3 / 5 : random.nextInt(20);
+            alterarProdutos(produtos, alteracoes, random);
+            if (rodada == RODADA_INCLUSAO) {
+                for (int i = 0; i < 100; i++) {
+                    produtos.add(new Produto("n" + i, "LG", "m", i));
+                }
+            }
+            if (alteracoes > 0 || rodada == RODADA_INCLUSAO) {
+                assertTrue(catalogo.isDesatualizado(), "Rodada " + rodada + ": as alterações não foram detectadas");
+            }
+
+            for (int i = 0; i < FILTROS_POR_RODADA; i++) {
+                consultas += consultarFiltroAleatorio(catalogo, produtos, random, rodada);
+                assertFalse(catalogo.isDesatualizado(), "Rodada " + rodada + ": a consulta não atualizou os índices");
+            }
+            assertEquals(produtos.size(), catalogo.tamanho());
+        }
+
+        assertEquals(RODADAS * FILTROS_POR_RODADA * OrdenacaoProduto.values().length, consultas);
+    }
+
+    private static void alterarProdutos(List<Produto> produtos, int alteracoes, Random random) {
+        for (int i = 0; i < alteracoes; i++) {
+            final Produto produto = produtos.get(random.nextInt(produtos.size()));
+            switch (random.nextInt(4)) {
+                case 0:
+                    produto.setEstoque(random.nextInt(200) - 20);
+                    break;
+                case 1:
+                    produto.setMarca(random.nextInt(5) == 0 ? "Nova" + random.nextInt(30) : MARCAS[random.nextInt(MARCAS.length)]);
+                    break;
+                case 2:
+                    produto.setDescricao("x" + random.nextInt());
+                    break;
+                default:
+                    produto.setEstoque(random.nextInt(200));
+                    produto.setMarca(MARCAS[random.nextInt(MARCAS.length)]);
+            }
+        }
+    }
+
+    /**
+     * Gera um filtro aleatório e compara o resultado do catálogo ao esperado
+     * em cada uma das ordenações.
+     *
+     * @return a quantidade de consultas feitas
+     */
+    private static int consultarFiltroAleatorio(CatalogoIndexado catalogo, List<Produto> produtos, Random random, int rodada) {
+        final String marca = random.nextBoolean() ? null
+                : random.nextInt(4) == 0 ? "Nova" + random.nextInt(30) : MARCAS[random.nextInt(4)];
+        final int minimo = random.nextBoolean() ? Integer.MIN_VALUE : random.nextInt(220) - 30;
+        final int maximo = random.nextBoolean() ? Integer.MAX_VALUE
+                : minimo == Integer.MIN_VALUE ? random.nextInt(200) : minimo + random.nextInt(80);
+        final Predicate<Produto> condicao = random.nextInt(3) == 0 ? produto -> produto.getId() % 2 == 0 : null;
+
+        FiltroProduto filtro = FiltroProduto.todos();
+        if (marca != null) {
+            filtro = filtro.marca(marca);
+        }
+        if (minimo != Integer.MIN_VALUE) {
+            filtro = filtro.estoqueMinimo(minimo);
+        }
+        if (maximo != Integer.MAX_VALUE) {
+            filtro = filtro.estoqueMaximo(maximo);
+        }
+        if (condicao != null) {
+            filtro = filtro.onde(condicao);
+        }
+
+        int consultas = 0;
+        for (OrdenacaoProduto ordenacao : OrdenacaoProduto.values()) {
+            final List<Produto> esperado = buscarForcaBruta(produtos, marca, minimo, maximo, condicao, ordenacao);
+            assertEquals(ids(esperado), ids(catalogo.consultar(filtro, ordenacao)),
+                    "Rodada " + rodada + ", marca " + marca + ", estoque " + minimo + ".." + maximo + ", " + ordenacao);
+            consultas++;
+        }
+        return consultas;
+    }
+
+    /**
+     * Obtém os ids dos produtos, na ordem da lista, para que uma falha mostre
+     * quais produtos divergem.
+     */
+    private static List<Integer> ids(List<Produto> produtos) {
+        return produtos.stream().map(Produto::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Busca os produtos percorrendo toda a lista e os ordena com uma
+     * ordenação estável, de modo que os empates fiquem na ordem do catálogo,
+     * como em {@link CatalogoIndexado#consultar(FiltroProduto, OrdenacaoProduto)}.
+     */
+    private static List<Produto> buscarForcaBruta(List<Produto> produtos, String marca, int minimo, int maximo,
+            Predicate<Produto> condicao, OrdenacaoProduto ordenacao) {
+        final List<Produto> resultado = produtos.stream()
+                .filter(produto -> marca == null || marca.equals(produto.getMarca()))
+                .filter(produto -> produto.getEstoque() >= minimo && produto.getEstoque() <= maximo)
+                .filter(produto -> condicao == null || condicao.test(produto))
+                .collect(Collectors.toList());
+
+        switch (ordenacao) {
+            case ESTOQUE_CRESCENTE:
+                resultado.sort(Comparator.comparingInt(Produto::getEstoque));
+                break;
+            case ESTOQUE_DECRESCENTE:
+                resultado.sort(Comparator.comparingInt(Produto::getEstoque).reversed());
+                break;
+            case MARCA:
+                resultado.sort(Comparator.comparing(Produto::getMarca, Comparator.nullsFirst(Comparator.naturalOrder())));
+                break;
+            default:
+        }
+        return resultado;
+    }
+
+}
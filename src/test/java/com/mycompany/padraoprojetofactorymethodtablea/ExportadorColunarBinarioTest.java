@@ -0,0 +1,118 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Verifica que os arquivos gravados por {@link ExportadorColunarBinario} são
+ * lidos por {@link LeitorColunarBinario} com os mesmos valores, inclusive
+ * quando os textos possuem caracteres fora do BMP ou surrogates inválidos
+ * nos seus limites.
+ *
+ * @author Lidiane
+ */
+class ExportadorColunarBinarioTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void surrogatesNosLimitesDosValoresNaoSaoCombinados() throws IOException {
+        final List<Produto> produtos = List.of(
+                new Produto("fim\uD83D", "A", "m1", 1),
+                new Produto("\uDE00ini", "B", "m2", 2),
+                new Produto("par 😀 completo", "C", "m3", 3),
+                new Produto("\uD83D", "D", "m4", 4),
+                new Produto("\uDE00", "E", "m5", 5));
+
+        final LeitorColunarBinario leitor = exportarELer(produtos);
+        final int descricao = leitor.indiceColuna("Descrição");
+        assertEquals("fim?", leitor.getTexto(descricao, 0));
+        assertEquals("?ini", leitor.getTexto(descricao, 1));
+        assertEquals("par 😀 completo", leitor.getTexto(descricao, 2));
+        assertEquals("?", leitor.getTexto(descricao, 3));
+        assertEquals("?", leitor.getTexto(descricao, 4));
+        for (int linha = 0; linha < produtos.size(); linha++) {
+            assertEquals(SaidaUtf8.tamanhoUtf8(produtos.get(linha).getDescricao()),
+                    leitor.getTamanhoTexto(descricao, linha));
+        }
+        assertEquals("E", leitor.getTexto(leitor.indiceColuna("Marca"), 4));
+    }
+
+    @Test
+    void arquivoPreservaTodasAsColunas() throws IOException {
+        final List<Produto> produtos = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            final String descricao = i % 11 == 0 ? null : "Descrição " + i + (i % 3 == 0 ? " 😀" : " ação");
+            produtos.add(new Produto(descricao, "Marca " + (i % 7), i % 5 == 0 ? "\uD83D" : "Modelo", i * 3));
+        }
+
+        final LeitorColunarBinario leitor = exportarELer(produtos);
+        assertEquals(produtos.size(), leitor.getNumeroLinhas());
+        final int codigo = leitor.indiceColuna("Código");
+        final int descricao = leitor.indiceColuna("Descrição");
+        final int marca = leitor.indiceColuna("Marca");
+        final int modelo = leitor.indiceColuna("Modelo");
+        final int estoque = leitor.indiceColuna("Estoque");
+        for (int linha = 0; linha < produtos.size(); linha++) {
+            final Produto produto = produtos.get(linha);
+            assertEquals(produto.getId(), leitor.getInt(codigo, linha));
+            assertEquals(produto.getDescricao() == null ? "" : produto.getDescricao(), leitor.getTexto(descricao, linha));
+            assertEquals(produto.getMarca(), leitor.getTexto(marca, linha));
+            assertEquals(linha % 5 == 0 ? "?" : "Modelo", leitor.getTexto(modelo, linha));
+            assertEquals(produto.getEstoque(), leitor.getInt(estoque, linha));
+        }
+    }
+
+    @Test
+    void textoAlteradoDuranteExportacaoNaoGeraArquivoInvalido() {
+        final List<Produto> produtos = List.of(new Produto("a", "A", "m", 1), new Produto("bbbb", "B", "m", 2));
+        final ExportadorColunarBinario exportador = new ExportadorColunarBinario();
+        /* A coluna reaproveita o mesmo buffer para todos os produtos, logo os
+         * textos gravados diferem dos textos medidos. */
+        final StringBuilder reaproveitado = new StringBuilder();
+        exportador.addColuna(exportador.newColuna(produto -> {
+            reaproveitado.setLength(0);
+            return reaproveitado.append(produto.getDescricao());
+        }, "Reaproveitada"));
+
+        assertThrows(IllegalStateException.class, () -> exportador.exportar(produtos, diretorio.resolve("invalido.bin")));
+    }
+
+    private LeitorColunarBinario exportarELer(List<Produto> produtos) throws IOException {
+        final Path arquivo = diretorio.resolve("produtos.bin");
+        new ExportadorColunarBinario().exportar(produtos, arquivo);
+        return LeitorColunarBinario.abrir(arquivo);
+    }
+
+}
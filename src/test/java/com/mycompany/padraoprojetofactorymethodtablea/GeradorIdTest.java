@@ -0,0 +1,190 @@
+/*Implementar o Exportador de Produtos com Factory Method
+ * 
+ * Na atividade anterior, implementamos um conjunto de classes utilizando o padrão Simple Factory 
+ * para exportar uma lista de objetos para formatos como HTML e Markdown.
+ * Uma nova implementação que inclui algumas melhorias foi feita no vídeo: 
+ * https://www.youtube.com/watch?v=_fXOANKlNT4&list=PLyo0RUAM69UtO8Jjq71qgvRxcI2pTrB2m&index=8
+ * , incluindo:
+ * Separa o código em mais classes, dando maior flexibilidade (como a possibilidade de adicionar 
+ * novas colunas na tabela gerada em HTML e outros formatos).
+ * Atende ao Interface Segragation Principle - ISP (Princípio da Segregação de Interfaces) 
+ * para termos muitas classes pequenos no lugar de poucas classes grandes. Isto torna as classes 
+ * mais simples de serem entendidas individualmente.
+ * Aplica o padrão Factory Method para permitir que as subclasses de AbstractExportadorListaProdutos 
+ * possam decidir que tipo de coluna será instanciada.
+ * Assista ao vídeo do link acima, baixe o projeto disponível na descrição do vídeo, 
+ * a partir do qual deve realizar as alterações mostradas no vídeo. 
+
+ * O projeto deve ser disponibilizado no GitHub e o link fornecido no moodle.
+ *
+ * Todo o código abaixo foi pego do GitHub do professor Manoel Campos, link abaixo:
+ * https://github.com/manoelcampos/padroes-projetos/tree/master/criacionais/factory-method/exportador-problematico/src/main/java/com/manoelcampos/exportador
+ *
+ */
+package com.mycompany.padraoprojetofactorymethodtablea;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica que as estratégias de geração de ids nunca geram o mesmo id duas
+ * vezes, mesmo com muitas threads gerando ids ao mesmo tempo, e que a troca
+ * de estratégia em {@link Produto#setGeradorId(GeradorId)} continua a
+ * sequência da estratégia anterior.
+ *
+ * @author Lidiane
+ */
+class GeradorIdTest {
+
+    private static final int THREADS = 64;
+
+    private static final int IDS_POR_THREAD = 20_000;
+
+    private GeradorId geradorOriginal;
+
+    @BeforeEach
+    void guardarGerador() {
+        geradorOriginal = Produto.getGeradorId();
+    }
+
+    @AfterEach
+    void restaurarGerador() {
+        Produto.setGeradorId(geradorOriginal);
+    }
+
+    @Test
+    void geradorSequencialNaoRepeteIdsEntreThreads() throws Exception {
+        final int[] ids = gerarEmParalelo(new GeradorIdSequencial());
+        assertIdsUnicos(ids);
+        assertEquals(THREADS * IDS_POR_THREAD, ids[ids.length - 1], "Os ids sequenciais não devem ter lacunas");
+    }
+
+    @Test
+    void geradorBlocosUnitariosNaoRepeteIdsEntreThreads() throws Exception {
+        assertIdsUnicos(gerarEmParalelo(new GeradorIdBlocos(1)));
+    }
+
+    @Test
+    void geradorBlocosNaoRepeteIdsEntreThreads() throws Exception {
+        assertIdsUnicos(gerarEmParalelo(new GeradorIdBlocos(1024)));
+    }
+
+    @Test
+    void geradorBlocosContinuaSequenciaInformada() throws Exception {
+        final int[] ids = gerarEmParalelo(new GeradorIdBlocos(1024, 1_000_000));
+        assertIdsUnicos(ids);
+        assertTrue(ids[0] > 1_000_000, "O primeiro id deve ser maior que o último id informado: " + ids[0]);
+    }
+
+    @Test
+    void produtosCriadosEmParaleloTemIdsUnicos() throws Exception {
+        Produto.setGeradorId(new GeradorIdBlocos(256));
+        assertIdsUnicos(gerarEmParalelo(() -> new Produto().getId()));
+    }
+
+    @Test
+    void trocaDeGeradorContinuaAposUltimoId() {
+        final int anterior = new Produto().getId();
+
+        Produto.setGeradorId(new GeradorIdBlocos(16));
+        final int comBlocos = new Produto().getId();
+        assertTrue(comBlocos > anterior, comBlocos + " deveria ser maior que " + anterior);
+
+        Produto.setGeradorId(new GeradorIdSequencial());
+        final int sequencial = new Produto().getId();
+        assertTrue(sequencial > comBlocos, sequencial + " deveria ser maior que " + comBlocos);
+    }
+
+    @Test
+    void voltarParaGeradorJaUsadoDescartaBlocosReservados() {
+        final GeradorIdBlocos blocos = new GeradorIdBlocos(1024);
+        Produto.setGeradorId(blocos);
+        new Produto();
+
+        /* O bloco reservado pela thread atual ainda tem ids livres, mas eles
+         * serão gerados pelo gerador sequencial. */
+        Produto.setGeradorId(new GeradorIdSequencial());
+        int ultimo = 0;
+        for (int i = 0; i < 2048; i++) {
+            ultimo = new Produto().getId();
+        }
+
+        Produto.setGeradorId(blocos);
+        final int id = new Produto().getId();
+        assertTrue(id > ultimo, id + " deveria ser maior que " + ultimo);
+    }
+
+    private static int[] gerarEmParalelo(GeradorId gerador) throws Exception {
+        return gerarEmParalelo(gerador::proximoId);
+    }
+
+    /**
+     * Gera {@link #IDS_POR_THREAD} ids em cada uma de {@link #THREADS}
+     * threads, todas liberadas ao mesmo tempo para maximizar a disputa.
+     *
+     * @param gerador operação que gera um id
+     * @return todos os ids gerados, em ordem crescente
+     */
+    private static int[] gerarEmParalelo(OperacaoId gerador) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch largada = new CountDownLatch(1);
+            final List<Future<int[]>> tarefas = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                tarefas.add(executor.submit(() -> {
+                    final int[] ids = new int[IDS_POR_THREAD];
+                    largada.await();
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = gerador.proximoId();
+                    }
+                    return ids;
+                }));
+            }
+            largada.countDown();
+
+            final int[] todos = new int[THREADS * IDS_POR_THREAD];
+            int posicao = 0;
+            for (Future<int[]> tarefa : tarefas) {
+                final int[] ids = tarefa.get();
+                System.arraycopy(ids, 0, todos, posicao, ids.length);
+                posicao += ids.length;
+            }
+            Arrays.sort(todos);
+            return todos;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param ids ids gerados, em ordem crescente
+     */
+    private static void assertIdsUnicos(int[] ids) {
+        assertEquals(THREADS * IDS_POR_THREAD, ids.length);
+        assertTrue(ids[0] > 0, "Os ids devem ser positivos: " + ids[0]);
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] == ids[i - 1]) {
+                fail("Id gerado mais de uma vez: " + ids[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface OperacaoId {
+
+        int proximoId();
+    }
+
+}